@@ -0,0 +1,78 @@
+package org.validcool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.validcool.Validator;
+import org.validcool.annotations.Between;
+import org.validcool.annotations.Matches;
+import org.validcool.annotations.NotEmpty;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.validcool.NumberValidations.betweenInt;
+import static org.validcool.StringValidations.isNullOrEmptyString;
+import static org.validcool.StringValidations.matches;
+import static org.validcool.Validations.*;
+
+/**
+ * Cost of validating an entity through the plan built from its annotations, next to the same checks hand-written
+ * with with and all and compiled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AnnotatedBenchmark {
+
+    public static class Order {
+
+        @NotEmpty
+        private final String customer;
+        @Between(min = 1, max = 100)
+        private final int quantity;
+        @Matches("[A-Z]{3}")
+        private final String currency;
+
+        Order(String customer, int quantity, String currency) {
+            this.customer = customer;
+            this.quantity = quantity;
+            this.currency = currency;
+        }
+    }
+
+    private Validator<Order> annotated;
+    private Validator<Order> handWritten;
+    private Order valid;
+    private Order invalid;
+
+    @Setup
+    public void setup() {
+        annotated = annotated(Order.class);
+        handWritten = compile(all(
+                with("customer", (Order order) -> order.customer, not(isNullOrEmptyString())),
+                with("quantity", (Order order) -> order.quantity, betweenInt(1, 100)),
+                with("currency", (Order order) -> order.currency, any(nullValue(), matches("[A-Z]{3}")))));
+        valid = new Order("Ada", 20, "EUR");
+        invalid = new Order("Ada", 200, "EUR");
+        validcoolConfig.stopLogging();
+    }
+
+    @Benchmark
+    public boolean annotated_pass() {
+        return check(valid, annotated);
+    }
+
+    @Benchmark
+    public boolean annotated_fail() {
+        return check(invalid, annotated);
+    }
+
+    @Benchmark
+    public boolean handWritten_pass() {
+        return check(valid, handWritten);
+    }
+
+    @Benchmark
+    public boolean handWritten_fail() {
+        return check(invalid, handWritten);
+    }
+
+}
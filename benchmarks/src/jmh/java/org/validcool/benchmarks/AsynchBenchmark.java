@@ -0,0 +1,54 @@
+package org.validcool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.validcool.ValidationException;
+import org.validcool.asynch.AsynchValidation;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.validcool.Validations.*;
+import static org.validcool.asynch.ValidationHint.HeavyComputing;
+import static org.validcool.asynch.ValidationHint.SimpleComputing;
+
+/**
+ * Cost of validate(AsynchValidation...) by number of validations, half of them hinted as HeavyComputing,
+ * for the pass and the fail path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AsynchBenchmark {
+
+    @Param({"2", "8", "32"})
+    public int count;
+
+    @Setup
+    public void setup() {
+        validcoolConfig.stopLogging();
+    }
+
+    private AsynchValidation[] validations(int actual) {
+        AsynchValidation[] validations = new AsynchValidation[count];
+        for(int i = 0; i < count; i++) {
+            validations[i] = validateAsynch("property " + i, actual, greaterThan(10),
+                    i % 2 == 0 ? SimpleComputing : HeavyComputing);
+        }
+        return validations;
+    }
+
+    @Benchmark
+    public void validateAsynch_pass() {
+        validate(validations(1000));
+    }
+
+    @Benchmark
+    public Object validateAsynch_fail() {
+        try {
+            validate(validations(5));
+            return null;
+        } catch(ValidationException e) {
+            return e;
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+package org.validcool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.validcool.Validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.validcool.CollectionValidations.*;
+import static org.validcool.Validations.*;
+
+/**
+ * Cost of the collection validators by size of the actual collection, for the pass and the fail path.
+ * The reference collections hold a tenth of the actual items, at least one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CollectionBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private List<Integer> actual;
+    private List<Integer> shuffled;
+    private List<Integer> present;
+    private List<Integer> absent;
+    private Validator<List<Integer>> hasItemsPresent;
+    private Validator<List<Integer>> hasItemsAbsent;
+    private Validator<List<Integer>> hasAnyPresent;
+    private Validator<List<Integer>> hasAnyAbsent;
+    private Validator<List<Integer>> hasNotAbsent;
+    private Validator<List<Integer>> hasNotPresent;
+    private Validator<List<Integer>> inOrderPresent;
+    private Validator<List<Integer>> inOrderAbsent;
+    private Validator<List<Integer>> sameItems;
+    private Validator<List<Integer>> everyItemPass;
+    private Validator<List<Integer>> everyItemFail;
+    private Validator<Integer> in;
+    private Integer member;
+    private Integer nonMember;
+
+    @Setup
+    public void setup() {
+        actual = range(0, size);
+        shuffled = new ArrayList<>(actual);
+        Collections.shuffle(shuffled);
+        int referenceSize = Math.max(1, size / 10);
+        // the tail of actual, so order based validators have to scan the whole collection
+        present = range(size - referenceSize, size);
+        absent = range(size, size + referenceSize);
+        hasItemsPresent = hasItems(present);
+        hasItemsAbsent = hasItems(absent);
+        hasAnyPresent = hasAny(present);
+        hasAnyAbsent = hasAny(absent);
+        hasNotAbsent = hasNot(absent);
+        hasNotPresent = hasNot(present);
+        inOrderPresent = hasItemsInOrder(present);
+        inOrderAbsent = hasItemsInOrder(absent);
+        sameItems = sameItems(shuffled);
+        everyItemPass = everyItem(greaterThan(-1));
+        // only the last item fails, so every split has to run to completion
+        everyItemFail = everyItem(lowerThan(size - 1));
+        in = in(actual);
+        member = size - 1;
+        nonMember = size;
+        validcoolConfig.stopLogging();
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>(to - from);
+        for(int i = from; i < to; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean hasItems_pass() {
+        return check(actual, hasItemsPresent);
+    }
+
+    @Benchmark
+    public boolean hasItems_fail() {
+        return check(actual, hasItemsAbsent);
+    }
+
+    @Benchmark
+    public boolean hasAny_pass() {
+        return check(actual, hasAnyPresent);
+    }
+
+    @Benchmark
+    public boolean hasAny_fail() {
+        return check(actual, hasAnyAbsent);
+    }
+
+    @Benchmark
+    public boolean hasNot_pass() {
+        return check(actual, hasNotAbsent);
+    }
+
+    @Benchmark
+    public boolean hasNot_fail() {
+        return check(actual, hasNotPresent);
+    }
+
+    @Benchmark
+    public boolean hasItemsInOrder_pass() {
+        return check(actual, inOrderPresent);
+    }
+
+    @Benchmark
+    public boolean hasItemsInOrder_fail() {
+        return check(actual, inOrderAbsent);
+    }
+
+    @Benchmark
+    public boolean sameItems_pass() {
+        return check(actual, sameItems);
+    }
+
+    @Benchmark
+    public boolean sameItems_fail() {
+        return check(absent, sameItems);
+    }
+
+    @Benchmark
+    public boolean in_pass() {
+        return check(member, in);
+    }
+
+    @Benchmark
+    public boolean in_fail() {
+        return check(nonMember, in);
+    }
+
+    @Benchmark
+    public boolean everyItem_pass() {
+        return check(actual, everyItemPass);
+    }
+
+    @Benchmark
+    public boolean everyItem_fail() {
+        return check(actual, everyItemFail);
+    }
+
+}
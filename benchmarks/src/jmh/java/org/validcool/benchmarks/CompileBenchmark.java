@@ -0,0 +1,60 @@
+package org.validcool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.validcool.Validations;
+import org.validcool.Validator;
+
+import java.awt.Point;
+import java.util.concurrent.TimeUnit;
+
+import static org.validcool.Validations.*;
+
+/**
+ * Cost of a validator tree built from with, all, any, not, greaterThan and equalTo, interpreted through its composites
+ * and compiled into one method handle, for the pass and the fail path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CompileBenchmark {
+
+    private Validator<Point> interpreted;
+    private Validator<Point> compiled;
+    private Point valid;
+    private Point invalid;
+
+    @Setup
+    public void setup() {
+        interpreted = all(
+                not(nullValue()),
+                with("x", (Point point) -> point.x, all(greaterThan(0), lowerThan(1000))),
+                any(with("y", (Point point) -> point.y, Validations.equalTo(0)),
+                        with("y", (Point point) -> point.y, greaterThan(10))),
+                not(Validations.equalTo(new Point(50, 50))));
+        compiled = compile(interpreted);
+        valid = new Point(500, 500);
+        invalid = new Point(500, 5);
+        validcoolConfig.stopLogging();
+    }
+
+    @Benchmark
+    public boolean interpreted_pass() {
+        return check(valid, interpreted);
+    }
+
+    @Benchmark
+    public boolean interpreted_fail() {
+        return check(invalid, interpreted);
+    }
+
+    @Benchmark
+    public boolean compiled_pass() {
+        return check(valid, compiled);
+    }
+
+    @Benchmark
+    public boolean compiled_fail() {
+        return check(invalid, compiled);
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.validcool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.validcool.Validator;
+
+import java.awt.Point;
+import java.util.concurrent.TimeUnit;
+
+import static org.validcool.Validations.*;
+
+/**
+ * Cost of the all, any and with composites by number of child validators, for the pass and the fail path.
+ * Inputs are chosen so every child runs: all fails on its last child, any succeeds on its last child. The adaptive
+ * composites get the same inputs and learn to evaluate the deciding child first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CompositeBenchmark {
+
+    @Param({"2", "8", "32"})
+    public int width;
+
+    private Validator<Integer> all;
+    private Validator<Integer> any;
+    private Validator<Integer> adaptiveAll;
+    private Validator<Integer> adaptiveAny;
+    private Validator<Point> with;
+    private Integer validForAll;
+    private Integer invalidForAll;
+    private Integer validForAny;
+    private Integer invalidForAny;
+    private Point validPoint;
+    private Point invalidPoint;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Validator<Integer>[] lowerThan = new Validator[width];
+        Validator<Integer>[] equalTo = new Validator[width];
+        Validator<Double>[] equalToDouble = new Validator[width];
+        for(int i = 0; i < width; i++) {
+            lowerThan[i] = lowerThan(2000 - i);
+            equalTo[i] = equalTo(1000 + i);
+            equalToDouble[i] = equalTo(1000.0 + i);
+        }
+        all = all(lowerThan);
+        any = any(equalTo);
+        adaptiveAll = adaptiveAll(lowerThan);
+        adaptiveAny = adaptiveAny(equalTo);
+        with = all(with("x", Point::getX, lowerThan(1000.0)), with("y", Point::getY, any(equalToDouble)));
+        validForAll = 0;
+        invalidForAll = 2000 - width + 1;
+        validForAny = 1000 + width - 1;
+        invalidForAny = -1;
+        validPoint = new Point(1, 1000 + width - 1);
+        invalidPoint = new Point(1, -1);
+    }
+
+    @Benchmark
+    public boolean all_pass() {
+        return check(validForAll, all);
+    }
+
+    @Benchmark
+    public boolean all_fail() {
+        return check(invalidForAll, all);
+    }
+
+    @Benchmark
+    public boolean any_pass() {
+        return check(validForAny, any);
+    }
+
+    @Benchmark
+    public boolean any_fail() {
+        return check(invalidForAny, any);
+    }
+
+    @Benchmark
+    public boolean adaptiveAll_fail() {
+        return check(invalidForAll, adaptiveAll);
+    }
+
+    @Benchmark
+    public boolean adaptiveAny_pass() {
+        return check(validForAny, adaptiveAny);
+    }
+
+    @Benchmark
+    public boolean with_pass() {
+        return check(validPoint, with);
+    }
+
+    @Benchmark
+    public boolean with_fail() {
+        return check(invalidPoint, with);
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.validcool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.validcool.Validator;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.validcool.StringValidations.*;
+import static org.validcool.Validations.*;
+
+/**
+ * Cost of the string matchers by length of the actual string, for the pass and the fail path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StringBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int length;
+
+    private Validator<String> matches;
+    private Validator<String> containsPattern;
+    private Validator<String> startsWith;
+    private Validator<String> contains;
+    private String valid;
+    private String invalid;
+
+    @Setup
+    public void setup() {
+        matches = matches("[a-z]+");
+        containsPattern = containsPattern("[0-9]{3}");
+        startsWith = startsWith("aaa");
+        contains = contains("123");
+        char[] letters = new char[length];
+        Arrays.fill(letters, 'a');
+        // "aaa...a123" passes every matcher but matches, "aaa...a" fails every matcher but matches and startsWith
+        valid = new String(letters, 0, length - 3) + "123";
+        invalid = new String(letters);
+        validcoolConfig.stopLogging();
+    }
+
+    @Benchmark
+    public boolean matches_pass() {
+        return check(invalid, matches);
+    }
+
+    @Benchmark
+    public boolean matches_fail() {
+        return check(valid, matches);
+    }
+
+    @Benchmark
+    public boolean containsPattern_pass() {
+        return check(valid, containsPattern);
+    }
+
+    @Benchmark
+    public boolean containsPattern_fail() {
+        return check(invalid, containsPattern);
+    }
+
+    @Benchmark
+    public boolean startsWith_pass() {
+        return check(valid, startsWith);
+    }
+
+    @Benchmark
+    public boolean contains_pass() {
+        return check(valid, contains);
+    }
+
+    @Benchmark
+    public boolean contains_fail() {
+        return check(invalid, contains);
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.validcool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.validcool.ValidationException;
+import org.validcool.Validator;
+import org.validcool.metrics.StripedValidationMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.validcool.Validations.*;
+
+/**
+ * Cost of the validate and check entry points on single validators, for the pass and the fail path, with validation
+ * metrics disabled and enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ValidateBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private Validator<Integer> greaterThanTen;
+    private Integer valid;
+    private Integer invalid;
+
+    @Setup
+    public void setup() {
+        greaterThanTen = greaterThan(10);
+        valid = 1000;
+        invalid = 5;
+        validcoolConfig.stopLogging();
+        validcoolConfig.setMetrics(metrics ? new StripedValidationMetrics() : null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validcoolConfig.setMetrics(null);
+    }
+
+    @Benchmark
+    public void validate_pass() {
+        validate(valid, greaterThanTen);
+    }
+
+    @Benchmark
+    public Object validate_fail() {
+        try {
+            validate(invalid, greaterThanTen);
+            return null;
+        } catch(ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean check_pass() {
+        return check(valid, greaterThanTen);
+    }
+
+    @Benchmark
+    public boolean check_fail() {
+        return check(invalid, greaterThanTen);
+    }
+
+}
@@ -0,0 +1,132 @@
+package org.validcool;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Outcome of validating a batch of values with @see org.validcool.BulkValidations. It keeps the index of every
+ * failing value in ascending order, next to its failed result. Error messages are only rendered when requested.
+ */
+public class BulkValidationResult {
+
+    private final int checkedCount;
+    private final int[] indices;
+    private final ValidationResult[] results;
+    private final Object[] actuals;
+
+    BulkValidationResult(int checkedCount, Failures failures) {
+        this.checkedCount = checkedCount;
+        this.indices = Arrays.copyOf(failures.indices, failures.size);
+        this.results = Arrays.copyOf(failures.results, failures.size);
+        this.actuals = Arrays.copyOf(failures.actuals, failures.size);
+    }
+
+    /**
+     * True iff no value failed.
+     */
+    public boolean isValid() {
+        return indices.length == 0;
+    }
+
+    /**
+     * Number of validated values.
+     */
+    public int getCheckedCount() {
+        return checkedCount;
+    }
+
+    public int getFailureCount() {
+        return indices.length;
+    }
+
+    /**
+     * Indices of all failing values, in ascending order.
+     */
+    public int[] getFailingIndices() {
+        return indices.clone();
+    }
+
+    /**
+     * @param failure between 0 and getFailureCount() - 1
+     */
+    public int getFailingIndex(int failure) {
+        return indices[failure];
+    }
+
+    /**
+     * @param failure between 0 and getFailureCount() - 1
+     */
+    public ValidationResult getResult(int failure) {
+        return results[failure];
+    }
+
+    /**
+     * @param failure between 0 and getFailureCount() - 1
+     */
+    public String getErrorMessage(int failure) {
+        return results[failure].createErrorMessage(String.valueOf(actuals[failure]));
+    }
+
+    /**
+     * Error messages of all failures, in order of their indices, rendered when accessed.
+     */
+    public List<String> getErrorMessages() {
+        return new AbstractList<String>() {
+            public @Override String get(int failure) {
+                return getErrorMessage(failure);
+            }
+
+            public @Override int size() {
+                return indices.length;
+            }
+        };
+    }
+
+    /**
+     * Growable, ordered buffer of failures collected by one bulk validation task.
+     */
+    static final class Failures {
+
+        private int[] indices = new int[0];
+        private ValidationResult[] results = new ValidationResult[0];
+        private Object[] actuals = new Object[0];
+        private int size;
+
+        void add(int index, ValidationResult result, Object actual) {
+            ensureCapacity(size + 1);
+            indices[size] = index;
+            results[size] = result;
+            actuals[size] = actual;
+            size++;
+        }
+
+        /**
+         * Appends the failures of other, which must all have greater indices.
+         */
+        Failures append(Failures other) {
+            if(other.size == 0) {
+                return this;
+            }
+            if(size == 0) {
+                return other;
+            }
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.indices, 0, indices, size, other.size);
+            System.arraycopy(other.results, 0, results, size, other.size);
+            System.arraycopy(other.actuals, 0, actuals, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if(capacity > indices.length) {
+                int newCapacity = Math.max(capacity, Math.max(8, indices.length * 2));
+                indices = Arrays.copyOf(indices, newCapacity);
+                results = Arrays.copyOf(results, newCapacity);
+                actuals = Arrays.copyOf(actuals, newCapacity);
+            }
+        }
+    }
+
+}
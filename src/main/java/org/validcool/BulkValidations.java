@@ -0,0 +1,187 @@
+package org.validcool;
+
+import org.validcool.BulkValidationResult.Failures;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+import static org.validcool.Validations.validcoolConfig;
+
+/**
+ * Validates big batches of values with one shared validator. Batches of at least the configured parallel threshold
+ * are split across the cores with fork/join. Validation never stops at the first invalid value and never calls the
+ * configured error handler, instead all failures are returned in a @see org.validcool.BulkValidationResult.
+ */
+public class BulkValidations {
+
+    /**
+     * Number of values read from a spliterator of unknown size before they are handed to a task.
+     */
+    static final int BATCH_SIZE = 4096;
+
+    /**
+     * Validates every item of actuals, iterating it in its own order.
+     */
+    public static <E> BulkValidationResult validateEach(Collection<E> actuals, Validator<E> validator) {
+        if(actuals instanceof List && actuals instanceof RandomAccess) {
+            List<E> list = (List<E>) actuals;
+            return validateEach(list.size(), list::get, validator);
+        }
+        return validateEach(actuals.spliterator(), validator);
+    }
+
+    public static <E> BulkValidationResult validateEach(E[] actuals, Validator<E> validator) {
+        return validateEach(actuals.length, i -> actuals[i], validator);
+    }
+
+    /**
+     * Validates every remaining item of actuals, indices count from the spliterators current position.
+     */
+    public static <E> BulkValidationResult validateEach(Spliterator<E> actuals, Validator<E> validator) {
+        long size = actuals.getExactSizeIfKnown();
+        if(size >= 0 && size < validcoolConfig.getParallelThreshold()) {
+            Failures failures = new Failures();
+            int[] index = new int[1];
+            actuals.forEachRemaining(actual -> test(validator, actual, index[0]++, failures));
+            return new BulkValidationResult(index[0], failures);
+        }
+        if(actuals.hasCharacteristics(Spliterator.SUBSIZED)) {
+            return new BulkValidationResult((int) size, new SplittingTask<>(actuals, 0, leafSize(size), validator).invoke());
+        }
+        return validateInBatches(actuals, validator);
+    }
+
+    private static <E> BulkValidationResult validateEach(int size, IntFunction<E> actuals, Validator<E> validator) {
+        if(size < validcoolConfig.getParallelThreshold()) {
+            return new BulkValidationResult(size, new RangeTask<>(actuals, 0, size, size, validator).compute());
+        }
+        return new BulkValidationResult(size, new RangeTask<>(actuals, 0, size, leafSize(size), validator).invoke());
+    }
+
+    /**
+     * Reads batches from a spliterator of unknown size and validates them in parallel. At most two batches per
+     * worker are held at once, so memory stays bounded however long the spliterator is.
+     */
+    private static <E> BulkValidationResult validateInBatches(Spliterator<E> actuals, Validator<E> validator) {
+        int maxPending = 2 * ForkJoinPool.getCommonPoolParallelism();
+        Deque<ForkJoinTask<Failures>> pending = new ArrayDeque<>();
+        Failures failures = new Failures();
+        int offset = 0;
+        while(true) {
+            Object[] batch = new Object[BATCH_SIZE];
+            int[] count = new int[1];
+            while(count[0] < BATCH_SIZE && actuals.tryAdvance(actual -> batch[count[0]++] = actual)) {
+                // reads the next value into the batch
+            }
+            if(count[0] == 0) {
+                break;
+            }
+            @SuppressWarnings("unchecked")
+            IntFunction<E> items = i -> (E) batch[i];
+            pending.add(new RangeTask<>(items, 0, count[0], count[0], validator, offset).fork());
+            offset += count[0];
+            if(pending.size() >= maxPending) {
+                failures = failures.append(pending.poll().join());
+            }
+        }
+        while(!pending.isEmpty()) {
+            failures = failures.append(pending.poll().join());
+        }
+        return new BulkValidationResult(offset, failures);
+    }
+
+    private static int leafSize(long size) {
+        return (int) Math.max(1024, size / (8L * ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    private static <E> void test(Validator<E> validator, E actual, int index, Failures failures) {
+        ValidationResult result = validator.evaluate(actual);
+        if(!result.isValid()) {
+            failures.add(index, result, actual);
+        }
+    }
+
+    /**
+     * Validates an index range, splitting it in halves until they are no longer than leafSize.
+     */
+    @SuppressWarnings("serial")
+    private static final class RangeTask<E> extends RecursiveTask<Failures> {
+
+        private final IntFunction<E> actuals;
+        private final int from, to, leafSize, offset;
+        private final Validator<E> validator;
+
+        RangeTask(IntFunction<E> actuals, int from, int to, int leafSize, Validator<E> validator) {
+            this(actuals, from, to, leafSize, validator, 0);
+        }
+
+        /**
+         * @param offset added to each index when reporting failures
+         */
+        RangeTask(IntFunction<E> actuals, int from, int to, int leafSize, Validator<E> validator, int offset) {
+            this.actuals = actuals;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.validator = validator;
+            this.offset = offset;
+        }
+
+        protected @Override Failures compute() {
+            if(to - from <= leafSize) {
+                Failures failures = new Failures();
+                for(int i = from; i < to; i++) {
+                    test(validator, actuals.apply(i), offset + i, failures);
+                }
+                return failures;
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask<E> right = new RangeTask<>(actuals, middle, to, leafSize, validator, offset);
+            right.fork();
+            Failures left = new RangeTask<>(actuals, from, middle, leafSize, validator, offset).compute();
+            return left.append(right.join());
+        }
+    }
+
+    /**
+     * Validates a spliterator with exactly known sizes of its splits, splitting it until no longer than leafSize.
+     */
+    @SuppressWarnings("serial")
+    private static final class SplittingTask<E> extends RecursiveTask<Failures> {
+
+        private final Spliterator<E> actuals;
+        private final int offset, leafSize;
+        private final Validator<E> validator;
+
+        SplittingTask(Spliterator<E> actuals, int offset, int leafSize, Validator<E> validator) {
+            this.actuals = actuals;
+            this.offset = offset;
+            this.leafSize = leafSize;
+            this.validator = validator;
+        }
+
+        protected @Override Failures compute() {
+            Spliterator<E> prefix;
+            if(actuals.estimateSize() <= leafSize || (prefix = actuals.trySplit()) == null) {
+                Failures failures = new Failures();
+                int[] index = { offset };
+                actuals.forEachRemaining(actual -> test(validator, actual, index[0]++, failures));
+                return failures;
+            }
+            int prefixSize = (int) prefix.getExactSizeIfKnown();
+            SplittingTask<E> suffix = new SplittingTask<>(actuals, offset + prefixSize, leafSize, validator);
+            suffix.fork();
+            Failures failures = new SplittingTask<>(prefix, offset, leafSize, validator).compute();
+            return failures.append(suffix.join());
+        }
+    }
+
+}
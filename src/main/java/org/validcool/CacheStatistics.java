@@ -0,0 +1,61 @@
+package org.validcool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counters of the pattern cache or of memoized validators. The counters are read one after
+ * the other, so while lookups go on the hit ratio is an estimate, exact only once they stopped.
+ */
+public class CacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Ratio of hits to all lookups, 1.0 when there was no lookup yet.
+     */
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long lookups = hitCount + getMissCount();
+        return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public @Override String toString() {
+        return String.format("hits=%d, misses=%d, evictions=%d", getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+}
@@ -1,17 +1,23 @@
 package org.validcool;
 
+import org.validcool.index.ItemCounts;
+import org.validcool.index.ReferenceSet;
+import org.validcool.validators.ItemsValidator;
+
 import java.util.*;
-import java.util.stream.Stream;
 
 public class CollectionValidations {
 
     /**
-     * Fails when actual collection does not contain at least one item of items.
+     * Fails when actual collection does not contain all items.
+     * The items are indexed once, when the validator is created, so each validation takes linear time,
+     * @see org.validcool.index.ReferenceSet.
      */
     public static <E extends Collection<?>> Validator<E> hasItems(E items) {
+        ReferenceSet references = referenceSet(items);
         return new Validator<>(
-                (E value) -> value.containsAll(items),
-                String.format("${actual} does not contain %s", Arrays.toString(items.toArray()))
+                references::isContainedIn,
+                "${actual} does not contain ${expected}", () -> Arrays.toString(items.toArray())
         );
     }
 
@@ -20,46 +26,80 @@ public class CollectionValidations {
      * Always wins when items is empty.
      */
     public static <E extends Collection<?>> Validator<E> hasAny(E items) {
+        ReferenceSet references = referenceSet(items);
         return new Validator<>(
-                (E value) -> items.size() == 0 || value.stream().filter(items::contains).findAny().isPresent(),
-                String.format("${actual} does not contain any of %s", Arrays.toString(items.toArray()))
+                (E value) -> references.size() == 0 || references.intersects(value),
+                "${actual} does not contain any of ${expected}", () -> Arrays.toString(items.toArray())
         );
     }
 
     /**
      * Fails when actual collection contains items not in the same order.
+     * Runs in linear time, using the Knuth-Morris-Pratt algorithm with a partial match table built once when the
+     * validator is created. Lists without random access are iterated exactly once.
      */
     public static <E extends List<?>> Validator<E> hasItemsInOrder(E items) {
+        Object[] pattern = items.toArray();
+        int[] partialMatches = partialMatchTable(pattern);
         return new Validator<>(
-                (E value) -> {
-                    // when no items, always "contained in order"
-                    if(items.size() == 0) {
-                        return true;
-                    }
-                    Object first = items.get(0);
-                    // when only one item, always "contained in order" iff contained
-                    if(items.size() == 1) {
-                        return value.contains(first);
-                    }
-                    return findAllIndicesOf(first, (List<Object>)value).anyMatch(
-                            (Integer startIndex) -> startIndex + items.size() <= value.size() &&
-                                    listEquals(
-                                            (List<Object>) value.subList(startIndex, startIndex + items.size()),
-                                            (List<Object>) items)
-                    );
-                },
-                String.format("${actual} does not contain %s in same order", Arrays.toString(items.toArray()))
+                (E value) -> containsInOrder(value, pattern, partialMatches),
+                "${actual} does not contain ${expected} in same order", () -> Arrays.toString(pattern)
         );
     }
 
-    private static Stream<Integer> findAllIndicesOf(Object item, List<Object> list) {
-        Queue<Integer> indices = new LinkedList<>();
-        for(int i = 0; i < list.size(); i++) {
-            if(item.equals(list.get(i))) {
-                indices.offer(i);
+    /**
+     * For each prefix of pattern, the length of its longest proper prefix which is also its suffix.
+     */
+    private static int[] partialMatchTable(Object[] pattern) {
+        int[] table = new int[pattern.length];
+        int length = 0;
+        for(int i = 1; i < pattern.length; i++) {
+            while(length > 0 && !Objects.equals(pattern[i], pattern[length])) {
+                length = table[length - 1];
+            }
+            if(Objects.equals(pattern[i], pattern[length])) {
+                length++;
+            }
+            table[i] = length;
+        }
+        return table;
+    }
+
+    private static boolean containsInOrder(List<?> value, Object[] pattern, int[] partialMatches) {
+        // when no items, always "contained in order"
+        if(pattern.length == 0) {
+            return true;
+        }
+        if(value.size() < pattern.length) {
+            return false;
+        }
+        int matched = 0;
+        if(value instanceof RandomAccess) {
+            for(int i = 0; i < value.size(); i++) {
+                matched = advance(value.get(i), matched, pattern, partialMatches);
+                if(matched == pattern.length) {
+                    return true;
+                }
+            }
+        } else {
+            for(Object item : value) {
+                matched = advance(item, matched, pattern, partialMatches);
+                if(matched == pattern.length) {
+                    return true;
+                }
             }
         }
-        return indices.stream();
+        return false;
+    }
+
+    /**
+     * @return the number of pattern items matched after item
+     */
+    private static int advance(Object item, int matched, Object[] pattern, int[] partialMatches) {
+        while(matched > 0 && !Objects.equals(item, pattern[matched])) {
+            matched = partialMatches[matched - 1];
+        }
+        return Objects.equals(item, pattern[matched]) ? matched + 1 : matched;
     }
 
     private static boolean listEquals(List<Object> a, List<Object> b) {
@@ -81,21 +121,32 @@ public class CollectionValidations {
 
     /**
      * Fails when actual collection contains at least one of the items.
+     * The items are indexed once, when the validator is created, so big item collections like blocklists are
+     * looked up in constant time per actual item.
      */
     public static <E extends Collection<?>> Validator<E> hasNot(E items) {
+        ReferenceSet references = referenceSet(items);
         return new Validator<>(
-                (E value) -> items.stream().allMatch((Object it) -> !value.contains(it)),
-                String.format("${actual} does not contain any of %s", Arrays.toString(items.toArray()))
+                (E value) -> !references.intersects(value),
+                "${actual} does not contain any of ${expected}", () -> Arrays.toString(items.toArray())
         );
     }
 
+    private static ReferenceSet referenceSet(Collection<?> items) {
+        return new ReferenceSet(items);
+    }
+
     /**
      * Fails when actual and expected collection do not consist of the same items, independent from order.
+     * Duplicates count, so each item has to occur equally often in both collections. The expected items are counted
+     * once when the validator is created, each validation counts the actual items in linear time, in parallel for
+     * collections of at least the configured parallel threshold.
      */
     public static <E extends Collection<?>> Validator<E> sameItems(E expected) {
+        ItemCounts counts = ItemCounts.of(expected);
         return new Validator<>(
-                (E value) -> value.stream().allMatch(expected::contains) && value.size() == expected.size(),
-                String.format("${actual} has not same content as %s", Arrays.toString(expected.toArray()))
+                (E value) -> counts.sameCounts(value, Validations.validcoolConfig.getParallelThreshold()),
+                "${actual} has not same content as ${expected}", () -> Arrays.toString(expected.toArray())
         );
     }
 
@@ -107,14 +158,14 @@ public class CollectionValidations {
                 (E value) -> {
                     return listEquals((List<Object>) value, (List<Object>) other);
                 },
-                String.format("${actual} has not same ordered content as %s", Arrays.toString(other.toArray()))
+                "${actual} has not same ordered content as ${expected}", () -> Arrays.toString(other.toArray())
         );
     }
 
     public static <E extends Collection<?>> Validator<E> hasSize(int size) {
         return new Validator<E>(
                 (E value) -> value.size() == size,
-                String.format("${actual} has not a size of %d", size)
+                "${actual} has not a size of ${expected}", () -> size
         );
     }
 
@@ -122,4 +173,51 @@ public class CollectionValidations {
         return hasSize(0);
     }
 
+    /**
+     * Fails when validator fails on at least one item of the actual collection. The failure reports the indices of
+     * the first invalid items and the error message of the first one, @see org.validcool.validators.ItemsValidator.
+     * Collections of at least the configured parallel threshold are validated in parallel.
+     */
+    public static <E, C extends Collection<? extends E>> Validator<C> everyItem(Validator<E> validator) {
+        return new ItemsValidator<>(validator, 0, Integer.MAX_VALUE, 0, "does not have every item valid");
+    }
+
+    /**
+     * Fails when validator fails on all items of the actual collection, including an empty one.
+     */
+    public static <E, C extends Collection<? extends E>> Validator<C> anyItem(Validator<E> validator) {
+        return new ItemsValidator<>(validator, 1, Integer.MAX_VALUE, Integer.MAX_VALUE, "has no valid item");
+    }
+
+    /**
+     * Fails when validator succeeds on at least one item of the actual collection.
+     */
+    public static <E, C extends Collection<? extends E>> Validator<C> noItem(Validator<E> validator) {
+        return new ItemsValidator<>(validator, 0, 0, Integer.MAX_VALUE, "has valid items");
+    }
+
+    /**
+     * Fails when validator succeeds on less than count items of the actual collection.
+     */
+    public static <E, C extends Collection<? extends E>> Validator<C> atLeast(int count, Validator<E> validator) {
+        checkCount(count);
+        return new ItemsValidator<>(validator, count, Integer.MAX_VALUE, Integer.MAX_VALUE,
+                "does not have at least " + count + " valid items");
+    }
+
+    /**
+     * Fails when validator succeeds on more than count items of the actual collection.
+     */
+    public static <E, C extends Collection<? extends E>> Validator<C> atMost(int count, Validator<E> validator) {
+        checkCount(count);
+        return new ItemsValidator<>(validator, 0, count, Integer.MAX_VALUE,
+                "has more than " + count + " valid items");
+    }
+
+    private static void checkCount(int count) {
+        if(count < 0) {
+            throw new IllegalArgumentException("item count must not be negative, but was " + count);
+        }
+    }
+
 }
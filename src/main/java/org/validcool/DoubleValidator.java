@@ -0,0 +1,86 @@
+package org.validcool;
+
+import java.util.function.DoublePredicate;
+import java.util.function.Supplier;
+
+/**
+ * Validator of double values, which tests primitive values without boxing them. It can be used wherever a
+ * Validator&lt;Double&gt; is expected, and combined with other double validators without losing its primitive path.
+ */
+public class DoubleValidator extends PrimitiveValidator<Double> {
+
+    private final DoublePredicate validator;
+
+    /**
+     * @param validator performs the validation
+     * @param errorMessagePattern output when error occurs, when contains "${actual}" this will be replaced with the
+     *                            actual value, and "${expected}" with the value of expected
+     * @param expected supplies the expected value, it is only called once an error message is requested
+     */
+    public DoubleValidator(DoublePredicate validator, String errorMessagePattern, Supplier<?> expected) {
+        this(validator, new ErrorMessageTemplate(errorMessagePattern, expected));
+    }
+
+    public DoubleValidator(DoublePredicate validator, ErrorMessageTemplate errorMessageTemplate) {
+        super(errorMessageTemplate);
+        this.validator = validator;
+    }
+
+    public boolean test(double actual) {
+        return validator.test(actual);
+    }
+
+    public @Override boolean test(Double actual) {
+        return test(actual.doubleValue());
+    }
+
+    public ValidationResult evaluate(double actual) {
+        return validator.test(actual) ? ValidationResult.valid() : invalidResult();
+    }
+
+    public @Override ValidationResult evaluate(Double actual) {
+        return evaluate(actual.doubleValue());
+    }
+
+    /**
+     * Succeeds when this and other succeed. Evaluating fails with the message of the first failing validator.
+     */
+    public DoubleValidator and(DoubleValidator other) {
+        DoubleValidator first = this;
+        return new DoubleValidator(actual -> first.test(actual) && other.test(actual), combinedTemplate(other)) {
+            public @Override ValidationResult evaluate(double actual) {
+                ValidationResult result = first.evaluate(actual);
+                return result.isValid() ? other.evaluate(actual) : result;
+            }
+
+            protected @Override String createName() {
+                return nameOf("and", first, other);
+            }
+        };
+    }
+
+    /**
+     * Succeeds when this or other succeeds. Evaluating fails with the messages of both validators.
+     */
+    public DoubleValidator or(DoubleValidator other) {
+        DoubleValidator first = this;
+        return new DoubleValidator(actual -> first.test(actual) || other.test(actual), combinedTemplate(other)) {
+            public @Override ValidationResult evaluate(double actual) {
+                ValidationResult result = first.evaluate(actual);
+                return result.isValid() ? result : either(result, other.evaluate(actual));
+            }
+
+            protected @Override String createName() {
+                return nameOf("or", first, other);
+            }
+        };
+    }
+
+    /**
+     * Succeeds when this fails, like @see org.validcool.Validations not.
+     */
+    public DoubleValidator negate() {
+        return new DoubleValidator(validator.negate(), negatedTemplate());
+    }
+
+}
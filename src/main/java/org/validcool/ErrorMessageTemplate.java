@@ -0,0 +1,150 @@
+package org.validcool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Error message pattern of a validator, split into its literal segments once when the validator is constructed.
+ * The pattern may contain two placeholders: "${actual}" is replaced with the actual value on each rendering,
+ * "${expected}" is replaced with the value of the expected supplier. The expected value is only turned into a string
+ * the first time a message is actually requested, so validators on big collections do not pay for messages they
+ * never print.
+ */
+public final class ErrorMessageTemplate {
+
+    public static final String ACTUAL = "${actual}";
+    public static final String EXPECTED = "${expected}";
+
+    private final String[] literals;
+    // per placeholder the template whose expected value it is replaced with, null for the actual value
+    private final ErrorMessageTemplate[] placeholders;
+    private final Supplier<?> expected;
+    private volatile String expectedString;
+    private volatile String pattern;
+
+    /**
+     * @param pattern contains "${actual}" and "${expected}" placeholders
+     * @param expected lazily supplies the value for "${expected}", when null the placeholder is kept as literal text
+     */
+    public ErrorMessageTemplate(String pattern, Supplier<?> expected) {
+        List<String> literals = new ArrayList<>();
+        List<ErrorMessageTemplate> placeholders = new ArrayList<>();
+        int start = 0;
+        while(true) {
+            int actualIndex = pattern.indexOf(ACTUAL, start);
+            int expectedIndex = expected == null ? -1 : pattern.indexOf(EXPECTED, start);
+            boolean isActual = expectedIndex < 0 || (actualIndex >= 0 && actualIndex < expectedIndex);
+            int index = isActual ? actualIndex : expectedIndex;
+            if(index < 0) {
+                break;
+            }
+            literals.add(pattern.substring(start, index));
+            placeholders.add(isActual ? null : this);
+            start = index + (isActual ? ACTUAL.length() : EXPECTED.length());
+        }
+        literals.add(pattern.substring(start));
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.placeholders = placeholders.toArray(new ErrorMessageTemplate[placeholders.size()]);
+        this.expected = expected;
+    }
+
+    public ErrorMessageTemplate(String pattern) {
+        this(pattern, null);
+    }
+
+    private ErrorMessageTemplate(String[] literals, ErrorMessageTemplate[] placeholders, Supplier<?> expected) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.expected = expected;
+    }
+
+    /**
+     * Creates a template rendering templates one after the other, each followed by terminator, like "a;b;". Each
+     * expected value is still rendered lazily, once, by the template it belongs to. Used by composites, which
+     * describe themselves by the messages of all their validators.
+     */
+    public static ErrorMessageTemplate concat(String terminator, ErrorMessageTemplate... templates) {
+        List<String> literals = new ArrayList<>();
+        List<ErrorMessageTemplate> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for(ErrorMessageTemplate template : templates) {
+            literal.append(template.literals[0]);
+            for(int i = 0; i < template.placeholders.length; i++) {
+                literals.add(literal.toString());
+                placeholders.add(template.placeholders[i]);
+                literal.setLength(0);
+                literal.append(template.literals[i + 1]);
+            }
+            literal.append(terminator);
+        }
+        literals.add(literal.toString());
+        return new ErrorMessageTemplate(literals.toArray(new String[literals.size()]),
+                placeholders.toArray(new ErrorMessageTemplate[placeholders.size()]), null);
+    }
+
+    /**
+     * Renders the error message, replacing "${actual}" with actualString.
+     */
+    public String render(String actualString) {
+        StringBuilder message = new StringBuilder(literals[0]);
+        for(int i = 0; i < placeholders.length; i++) {
+            message.append(placeholders[i] == null ? actualString : placeholders[i].getExpectedString())
+                    .append(literals[i + 1]);
+        }
+        return message.toString();
+    }
+
+    /**
+     * The pattern with its expected part rendered and the "${actual}" placeholder left in place.
+     */
+    public String getPattern() {
+        String rendered = pattern;
+        if(rendered == null) {
+            rendered = render(ACTUAL);
+            pattern = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * The pattern with both placeholders left in place. Unlike getPattern it never renders the expected value.
+     */
+    public String getText() {
+        StringBuilder text = new StringBuilder(literals[0]);
+        for(int i = 0; i < placeholders.length; i++) {
+            text.append(placeholders[i] == null ? ACTUAL : EXPECTED).append(literals[i + 1]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Creates a template with target replaced in the literal segments only, leaving actual and expected values as
+     * they are.
+     */
+    public ErrorMessageTemplate replaceInLiterals(String target, String replacement) {
+        String[] replaced = new String[literals.length];
+        for(int i = 0; i < literals.length; i++) {
+            replaced[i] = literals[i].replace(target, replacement);
+        }
+        return new ErrorMessageTemplate(replaced, placeholders, expected);
+    }
+
+    private String getExpectedString() {
+        if(expected == null) {
+            return null;
+        }
+        String rendered = expectedString;
+        if(rendered == null) {
+            // racing threads render the same string, so publishing it twice does no harm
+            rendered = String.valueOf(expected.get());
+            expectedString = rendered;
+        }
+        return rendered;
+    }
+
+    public @Override String toString() {
+        return getPattern();
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.validcool;
+
+/**
+ * Tells validcool what to do when a validation fails. Failures are logged in every mode iff logging is enabled.
+ */
+public enum FailureMode {
+    /**
+     * Calls the configured error handler, which by default throws an org.validcool.ValidationException.
+     */
+    THROW,
+    /**
+     * Throws an org.validcool.ValidationException without stack trace instead of calling the error handler.
+     * Use it when many validations are expected to fail and stack trace capture would dominate the cost.
+     */
+    THROW_STACKLESS,
+    /**
+     * Neither calls the error handler nor throws, the failing @see org.validcool.ValidationResult is returned.
+     * Validations without a result to return, like the void validate methods, handle failures like THROW instead.
+     */
+    RETURN;
+}
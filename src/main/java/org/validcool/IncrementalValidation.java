@@ -0,0 +1,187 @@
+package org.validcool;
+
+import org.validcool.validators.AllValidator;
+import org.validcool.validators.CompiledValidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.validcool.Validations.validcoolConfig;
+
+/**
+ * Keeps the last result of every validator of one entity and, when properties of the entity change, only reruns the
+ * validators depending on them. Each validator depends on the properties it reads through named with validators, as
+ * listed by @see org.validcool.Validator getPropertyNames, or on the properties declared when adding it, which is how
+ * cross-field validators are tracked. Validators reading the entity itself rerun on every change. Composites built
+ * with all, also compiled ones like annotation plans, are tracked child by child.
+ * A setter reports its change after assigning the property:
+ * <code>
+ *     public void setQuantity(int quantity) {
+ *         this.quantity = quantity;
+ *         validation.changed("quantity");
+ *     }
+ * </code>
+ * All methods are synchronized, so changes may be reported from several threads.
+ */
+public class IncrementalValidation<E> {
+
+    private final String actualString;
+    private final E actual;
+    private final List<Validator<E>> validators = new ArrayList<>();
+    private final List<ValidationResult> results = new ArrayList<>();
+    private final Map<String, BitSet> dependents = new HashMap<>();
+    // validators which may read anything of the entity
+    private final BitSet independent = new BitSet();
+    private int failures;
+
+    /**
+     * @param actualString replaces the entity in error messages, like a property name
+     */
+    public IncrementalValidation(String actualString, E actual) {
+        this.actualString = actualString;
+        this.actual = actual;
+    }
+
+    /**
+     * Error messages describe the entity by its string representation at the time they are rendered.
+     */
+    public IncrementalValidation(E actual) {
+        this(null, actual);
+    }
+
+    /**
+     * Adds validator, depending on the properties named by its with validators, and evaluates it at once.
+     */
+    public synchronized IncrementalValidation<E> add(Validator<E> validator) {
+        if(validator instanceof CompiledValidator) {
+            return add(((CompiledValidator<E>) validator).getValidator());
+        }
+        if(validator instanceof AllValidator) {
+            for(Validator<E> child : ((AllValidator<E>) validator).getValidators()) {
+                add(child);
+            }
+            return this;
+        }
+        return track(validator, validator.getPropertyNames());
+    }
+
+    /**
+     * Adds validator, depending on the specified properties only, and evaluates it at once. Used for validators
+     * reading several properties, like a period whose start must be before its end.
+     */
+    public synchronized IncrementalValidation<E> add(Validator<E> validator, String... dependsOn) {
+        return track(validator, new HashSet<>(Arrays.asList(dependsOn)));
+    }
+
+    private IncrementalValidation<E> track(Validator<E> validator, Set<String> propertyNames) {
+        int index = validators.size();
+        validators.add(validator);
+        results.add(ValidationResult.valid());
+        if(propertyNames == null) {
+            independent.set(index);
+        } else {
+            for(String propertyName : propertyNames) {
+                dependents.computeIfAbsent(propertyName, name -> new BitSet()).set(index);
+            }
+        }
+        evaluate(index, validcoolConfig.current());
+        return this;
+    }
+
+    /**
+     * Reruns the validators depending on the changed properties, and those reading the entity itself, keeping the
+     * last results of all others.
+     * @return whether the entity is valid now
+     */
+    public synchronized boolean changed(String... propertyNames) {
+        BitSet affected = (BitSet) independent.clone();
+        for(String propertyName : propertyNames) {
+            BitSet propertyDependents = dependents.get(propertyName);
+            if(propertyDependents != null) {
+                affected.or(propertyDependents);
+            }
+        }
+        ValidcoolSettings settings = validcoolConfig.current();
+        for(int index = affected.nextSetBit(0); index >= 0; index = affected.nextSetBit(index + 1)) {
+            evaluate(index, settings);
+        }
+        return failures == 0;
+    }
+
+    /**
+     * Reruns all validators.
+     * @return whether the entity is valid now
+     */
+    public synchronized boolean revalidate() {
+        ValidcoolSettings settings = validcoolConfig.current();
+        for(int index = 0; index < validators.size(); index++) {
+            evaluate(index, settings);
+        }
+        return failures == 0;
+    }
+
+    private void evaluate(int index, ValidcoolSettings settings) {
+        ValidationResult result = settings.evaluate(validators.get(index), actual);
+        boolean wasValid = results.get(index).isValid();
+        if(wasValid != result.isValid()) {
+            failures += wasValid ? 1 : -1;
+        }
+        results.set(index, result);
+    }
+
+    /**
+     * Whether all validators succeeded at their last evaluation.
+     */
+    public synchronized boolean isValid() {
+        return failures == 0;
+    }
+
+    /**
+     * The last result of the first failing validator, in the order they were added, bound to the entity.
+     */
+    public synchronized ValidationResult getResult() {
+        for(ValidationResult result : results) {
+            if(!result.isValid()) {
+                return result.describedAs(getActualString());
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * Error messages of all failing validators, in the order they were added.
+     */
+    public synchronized List<String> getErrorMessages() {
+        List<String> messages = new ArrayList<>(failures);
+        for(ValidationResult result : results) {
+            if(!result.isValid()) {
+                messages.add(result.createErrorMessage(getActualString()));
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Handles the last result of the first failing validator as configured, like @see org.validcool.Validations
+     * validate, without rerunning any validator.
+     */
+    public ValidationResult validate() {
+        ValidationResult result = getResult();
+        if(!result.isValid()) {
+            ValidcoolSettings settings = validcoolConfig.current();
+            return settings.handle(result, getActualString(), settings.getFailureMode());
+        }
+        return result;
+    }
+
+    private String getActualString() {
+        return actualString != null ? actualString : String.valueOf(actual);
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.validcool;
+
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Validator of int values, which tests primitive values without boxing them. It can be used wherever a
+ * Validator&lt;Integer&gt; is expected, and combined with other int validators without losing its primitive path.
+ */
+public class IntValidator extends PrimitiveValidator<Integer> {
+
+    private final IntPredicate validator;
+
+    /**
+     * @param validator performs the validation
+     * @param errorMessagePattern output when error occurs, when contains "${actual}" this will be replaced with the
+     *                            actual value, and "${expected}" with the value of expected
+     * @param expected supplies the expected value, it is only called once an error message is requested
+     */
+    public IntValidator(IntPredicate validator, String errorMessagePattern, Supplier<?> expected) {
+        this(validator, new ErrorMessageTemplate(errorMessagePattern, expected));
+    }
+
+    public IntValidator(IntPredicate validator, ErrorMessageTemplate errorMessageTemplate) {
+        super(errorMessageTemplate);
+        this.validator = validator;
+    }
+
+    public boolean test(int actual) {
+        return validator.test(actual);
+    }
+
+    public @Override boolean test(Integer actual) {
+        return test(actual.intValue());
+    }
+
+    public ValidationResult evaluate(int actual) {
+        return validator.test(actual) ? ValidationResult.valid() : invalidResult();
+    }
+
+    public @Override ValidationResult evaluate(Integer actual) {
+        return evaluate(actual.intValue());
+    }
+
+    /**
+     * Succeeds when this and other succeed. Evaluating fails with the message of the first failing validator.
+     */
+    public IntValidator and(IntValidator other) {
+        IntValidator first = this;
+        return new IntValidator(actual -> first.test(actual) && other.test(actual), combinedTemplate(other)) {
+            public @Override ValidationResult evaluate(int actual) {
+                ValidationResult result = first.evaluate(actual);
+                return result.isValid() ? other.evaluate(actual) : result;
+            }
+
+            protected @Override String createName() {
+                return nameOf("and", first, other);
+            }
+        };
+    }
+
+    /**
+     * Succeeds when this or other succeeds. Evaluating fails with the messages of both validators.
+     */
+    public IntValidator or(IntValidator other) {
+        IntValidator first = this;
+        return new IntValidator(actual -> first.test(actual) || other.test(actual), combinedTemplate(other)) {
+            public @Override ValidationResult evaluate(int actual) {
+                ValidationResult result = first.evaluate(actual);
+                return result.isValid() ? result : either(result, other.evaluate(actual));
+            }
+
+            protected @Override String createName() {
+                return nameOf("or", first, other);
+            }
+        };
+    }
+
+    /**
+     * Succeeds when this fails, like @see org.validcool.Validations not.
+     */
+    public IntValidator negate() {
+        return new IntValidator(validator.negate(), negatedTemplate());
+    }
+
+}
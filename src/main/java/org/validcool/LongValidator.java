@@ -0,0 +1,86 @@
+package org.validcool;
+
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Validator of long values, which tests primitive values without boxing them. It can be used wherever a
+ * Validator&lt;Long&gt; is expected, and combined with other long validators without losing its primitive path.
+ */
+public class LongValidator extends PrimitiveValidator<Long> {
+
+    private final LongPredicate validator;
+
+    /**
+     * @param validator performs the validation
+     * @param errorMessagePattern output when error occurs, when contains "${actual}" this will be replaced with the
+     *                            actual value, and "${expected}" with the value of expected
+     * @param expected supplies the expected value, it is only called once an error message is requested
+     */
+    public LongValidator(LongPredicate validator, String errorMessagePattern, Supplier<?> expected) {
+        this(validator, new ErrorMessageTemplate(errorMessagePattern, expected));
+    }
+
+    public LongValidator(LongPredicate validator, ErrorMessageTemplate errorMessageTemplate) {
+        super(errorMessageTemplate);
+        this.validator = validator;
+    }
+
+    public boolean test(long actual) {
+        return validator.test(actual);
+    }
+
+    public @Override boolean test(Long actual) {
+        return test(actual.longValue());
+    }
+
+    public ValidationResult evaluate(long actual) {
+        return validator.test(actual) ? ValidationResult.valid() : invalidResult();
+    }
+
+    public @Override ValidationResult evaluate(Long actual) {
+        return evaluate(actual.longValue());
+    }
+
+    /**
+     * Succeeds when this and other succeed. Evaluating fails with the message of the first failing validator.
+     */
+    public LongValidator and(LongValidator other) {
+        LongValidator first = this;
+        return new LongValidator(actual -> first.test(actual) && other.test(actual), combinedTemplate(other)) {
+            public @Override ValidationResult evaluate(long actual) {
+                ValidationResult result = first.evaluate(actual);
+                return result.isValid() ? other.evaluate(actual) : result;
+            }
+
+            protected @Override String createName() {
+                return nameOf("and", first, other);
+            }
+        };
+    }
+
+    /**
+     * Succeeds when this or other succeeds. Evaluating fails with the messages of both validators.
+     */
+    public LongValidator or(LongValidator other) {
+        LongValidator first = this;
+        return new LongValidator(actual -> first.test(actual) || other.test(actual), combinedTemplate(other)) {
+            public @Override ValidationResult evaluate(long actual) {
+                ValidationResult result = first.evaluate(actual);
+                return result.isValid() ? result : either(result, other.evaluate(actual));
+            }
+
+            protected @Override String createName() {
+                return nameOf("or", first, other);
+            }
+        };
+    }
+
+    /**
+     * Succeeds when this fails, like @see org.validcool.Validations not.
+     */
+    public LongValidator negate() {
+        return new LongValidator(validator.negate(), negatedTemplate());
+    }
+
+}
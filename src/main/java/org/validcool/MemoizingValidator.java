@@ -0,0 +1,330 @@
+package org.validcool;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Decorates a validator with a cache of its results per actual value, for validators doing expensive work like
+ * lookups or parsing on values which repeat. The cache is split into segments by hash of the actual value, each a
+ * bounded least recently used map behind its own lock, so threads validating different values rarely contend.
+ * The wrapped validator runs outside of the locks, concurrent misses on the same value may evaluate it twice.
+ * Actual values are compared by equals, and must not change while they are cached.
+ * Hits, misses and evictions are counted per validator and in total, @see org.validcool.ValidcoolConfiguration
+ * getMemoizationStatistics.
+ */
+public class MemoizingValidator<E> extends Validator<E> {
+
+    static final CacheStatistics shared = new CacheStatistics();
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final Object NULL_KEY = new Object();
+
+    private final Validator<E> validator;
+    private final long timeToLiveNanos;
+    private final boolean weakKeys;
+    private final Segment[] segments;
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    /**
+     * @param maximumSize number of cached values, the least recently used ones are evicted beyond it
+     * @param timeToLive time after which a cached result is evaluated again, null keeps results until evicted
+     * @param weakKeys whether cached values are only weakly referenced, so they do not outlive their other uses;
+     *                 null values are not cached then. Failures may reference the actual value, like the selection of
+     *                 a with validator, so only the fact that a value failed is cached, and the error message of a
+     *                 cached failure is built by evaluating validator again
+     */
+    public MemoizingValidator(Validator<E> validator, int maximumSize, Duration timeToLive, boolean weakKeys) {
+        super(null, validator.getErrorMessageTemplate());
+        if(maximumSize < 1) {
+            throw new IllegalArgumentException("maximum size must be positive, but was " + maximumSize);
+        }
+        if(timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+            throw new IllegalArgumentException("time to live must be positive, but was " + timeToLive);
+        }
+        this.validator = validator;
+        this.timeToLiveNanos = timeToLive == null ? 0 : timeToLive.toNanos();
+        this.weakKeys = weakKeys;
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        this.segments = new Segment[segmentCount];
+        for(int i = 0; i < segmentCount; i++) {
+            // spread the remainder, so the segments hold maximumSize values in total
+            segments[i] = new Segment(this, maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    public @Override boolean test(E actual) {
+        ValidationResult result = resultOf(actual);
+        return result != null && result.isValid();
+    }
+
+    public @Override ValidationResult evaluate(E actual) {
+        ValidationResult result = resultOf(actual);
+        return result != null ? result : new ReevaluatedFailure<>(validator, actual);
+    }
+
+    /**
+     * The cached result of actual, or the result of evaluating it, which is then cached. Null for a failure cached
+     * under a weak key, which keeps no result.
+     */
+    private ValidationResult resultOf(E actual) {
+        if(actual == null && weakKeys) {
+            return validator.evaluate(null);
+        }
+        Object key = actual == null ? NULL_KEY : actual;
+        int hash = spread(key.hashCode());
+        Segment segment = segments[hash & (segments.length - 1)];
+        CachedResult cached = segment.get(new LookupKey(key, hash));
+        if(cached != null) {
+            recordHit();
+            return cached.result;
+        }
+        recordMiss();
+        ValidationResult result = validator.evaluate(actual);
+        if(weakKeys) {
+            segment.put(new WeakKey(key, hash, segment.staleKeys), result.isValid() ? result : null);
+        } else {
+            segment.put(new LookupKey(key, hash), result);
+        }
+        return result;
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return evaluate(actual).createErrorMessage(String.valueOf(actual));
+    }
+
+    public @Override String createErrorMessage(String actualString) {
+        return validator.createErrorMessage(actualString);
+    }
+
+    protected @Override String createName() {
+        return nameOf("memoized", validator);
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return validator.getPropertyNames();
+    }
+
+    /**
+     * Hit, miss and eviction counts of this validators cache. Expired and garbage collected values count as evictions.
+     */
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Number of currently cached values, including expired ones which were not evicted yet.
+     */
+    public int size() {
+        int size = 0;
+        for(Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        for(Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private void recordHit() {
+        statistics.recordHit();
+        shared.recordHit();
+    }
+
+    private void recordMiss() {
+        statistics.recordMiss();
+        shared.recordMiss();
+    }
+
+    private void recordEviction() {
+        statistics.recordEviction();
+        shared.recordEviction();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Segment {
+
+        private final MemoizingValidator<?> owner;
+        private final Map<Key, CachedResult> entries;
+        private final ReferenceQueue<Object> staleKeys = new ReferenceQueue<>();
+
+        Segment(MemoizingValidator<?> owner, int capacity) {
+            this.owner = owner;
+            this.entries = new LinkedHashMap<Key, CachedResult>(16, 0.75f, true) {
+                protected @Override boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+                    if(size() > capacity) {
+                        owner.recordEviction();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized CachedResult get(Key key) {
+            CachedResult entry = entries.get(key);
+            if(entry == null) {
+                return null;
+            }
+            if(owner.timeToLiveNanos > 0 && System.nanoTime() - entry.createdAt >= owner.timeToLiveNanos) {
+                entries.remove(key);
+                owner.recordEviction();
+                return null;
+            }
+            return entry;
+        }
+
+        synchronized void put(Key key, ValidationResult result) {
+            expungeStaleKeys();
+            entries.put(key, new CachedResult(result, owner.timeToLiveNanos > 0 ? System.nanoTime() : 0));
+        }
+
+        synchronized int size() {
+            expungeStaleKeys();
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            expungeStaleKeys();
+            entries.clear();
+        }
+
+        private void expungeStaleKeys() {
+            for(Object stale = staleKeys.poll(); stale != null; stale = staleKeys.poll()) {
+                if(entries.remove(stale) != null) {
+                    owner.recordEviction();
+                }
+            }
+        }
+    }
+
+    private static final class CachedResult {
+
+        // null for a failure under a weak key
+        final ValidationResult result;
+        final long createdAt;
+
+        CachedResult(ValidationResult result, long createdAt) {
+            this.result = result;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * Failure cached under a weak key. It evaluates the validator again once its error message is requested, and only
+     * references the actual value as long as the failure itself is referenced.
+     */
+    private static final class ReevaluatedFailure<E> extends ValidationResult {
+
+        private final Validator<E> validator;
+        private final E actual;
+
+        ReevaluatedFailure(Validator<E> validator, E actual) {
+            this.validator = validator;
+            this.actual = actual;
+        }
+
+        public @Override boolean isValid() {
+            return false;
+        }
+
+        public @Override String createErrorMessage(String actualString) {
+            ValidationResult result = validator.evaluate(actual);
+            if(result.isValid()) {
+                // the validator may succeed by now, like a lookup, then its message is rendered without the actual value
+                return validator.createErrorMessage(actualString);
+            }
+            return result.createErrorMessage(actualString);
+        }
+    }
+
+    /**
+     * Key of a cached value, equal to any other key of an equal value. Lookups always use a strong key, so they find
+     * weak keys of equal values.
+     */
+    private interface Key {
+
+        Object value();
+
+        int hash();
+
+        static boolean equal(Key key, Object other) {
+            if(key == other) {
+                return true;
+            }
+            if(!(other instanceof Key) || key.hash() != ((Key) other).hash()) {
+                return false;
+            }
+            Object value = key.value();
+            // a garbage collected key is only equal to itself
+            return value != null && value.equals(((Key) other).value());
+        }
+    }
+
+    private static final class LookupKey implements Key {
+
+        private final Object value;
+        private final int hash;
+
+        LookupKey(Object value, int hash) {
+            this.value = value;
+            this.hash = hash;
+        }
+
+        public @Override Object value() {
+            return value;
+        }
+
+        public @Override int hash() {
+            return hash;
+        }
+
+        public @Override boolean equals(Object other) {
+            return Key.equal(this, other);
+        }
+
+        public @Override int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<Object> implements Key {
+
+        private final int hash;
+
+        WeakKey(Object value, int hash, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.hash = hash;
+        }
+
+        public @Override Object value() {
+            return get();
+        }
+
+        public @Override int hash() {
+            return hash;
+        }
+
+        public @Override boolean equals(Object other) {
+            return Key.equal(this, other);
+        }
+
+        public @Override int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+package org.validcool;
+
+import org.validcool.index.IntIndex;
+import org.validcool.index.LongIndex;
+
+import java.util.Arrays;
+
+/**
+ * Validators on numbers. The int, long and double variants test primitive values, so validating a primitive does not
+ * box it, @see org.validcool.Validations validate(int, IntValidator). They are named after their primitive type,
+ * like greaterThanInt, because as overloads of the generic validators they would also capture byte, short, char and
+ * float arguments, which then no longer make validators of their own boxed type.
+ */
+public class NumberValidations {
+
+    /**
+     * Fails when the actual int is not greater than other, without boxing the actual value.
+     */
+    public static IntValidator greaterThanInt(int other) {
+        return new IntValidator(
+                val -> val > other,
+                "${actual} is not greater than ${expected}", () -> other
+        );
+    }
+
+    public static LongValidator greaterThanLong(long other) {
+        return new LongValidator(
+                val -> val > other,
+                "${actual} is not greater than ${expected}", () -> other
+        );
+    }
+
+    /**
+     * Compares like @see java.lang.Double compareTo, so NaN is greater than any other value.
+     */
+    public static DoubleValidator greaterThanDouble(double other) {
+        return new DoubleValidator(
+                val -> Double.compare(val, other) > 0,
+                "${actual} is not greater than ${expected}", () -> other
+        );
+    }
+
+    /**
+     * Fails when the actual int is not lower than other, without boxing the actual value.
+     */
+    public static IntValidator lowerThanInt(int other) {
+        return new IntValidator(
+                val -> val < other,
+                "${actual} is not lower than ${expected}", () -> other
+        );
+    }
+
+    public static LongValidator lowerThanLong(long other) {
+        return new LongValidator(
+                val -> val < other,
+                "${actual} is not lower than ${expected}", () -> other
+        );
+    }
+
+    /**
+     * Compares like @see java.lang.Double compareTo, so NaN is greater than any other value.
+     */
+    public static DoubleValidator lowerThanDouble(double other) {
+        return new DoubleValidator(
+                val -> Double.compare(val, other) < 0,
+                "${actual} is not lower than ${expected}", () -> other
+        );
+    }
+
+    /**
+     * Fails when actual is lower than min or greater than max, both bounds are inclusive.
+     */
+    public static <E extends Comparable<E>> Validator<E> between(E min, E max) {
+        checkBounds(min.compareTo(max) <= 0, min, max);
+        return new Validator<>(
+                val -> val.compareTo(min) >= 0 && val.compareTo(max) <= 0,
+                "${actual} is not between ${expected}", () -> min + " and " + max
+        );
+    }
+
+    public static IntValidator betweenInt(int min, int max) {
+        checkBounds(min <= max, min, max);
+        return new IntValidator(
+                val -> val >= min && val <= max,
+                "${actual} is not between ${expected}", () -> min + " and " + max
+        );
+    }
+
+    public static LongValidator betweenLong(long min, long max) {
+        checkBounds(min <= max, min, max);
+        return new LongValidator(
+                val -> val >= min && val <= max,
+                "${actual} is not between ${expected}", () -> min + " and " + max
+        );
+    }
+
+    /**
+     * Compares like @see java.lang.Double compareTo, so NaN is only between bounds including NaN.
+     */
+    public static DoubleValidator betweenDouble(double min, double max) {
+        checkBounds(Double.compare(min, max) <= 0, min, max);
+        return new DoubleValidator(
+                val -> Double.compare(val, min) >= 0 && Double.compare(val, max) <= 0,
+                "${actual} is not between ${expected}", () -> min + " and " + max
+        );
+    }
+
+    /**
+     * Fails when actual is not divisible by divisor without remainder.
+     */
+    public static IntValidator multipleOf(int divisor) {
+        checkDivisor(divisor != 0);
+        return new IntValidator(
+                val -> val % divisor == 0,
+                "${actual} is not a multiple of ${expected}", () -> divisor
+        );
+    }
+
+    public static LongValidator multipleOf(long divisor) {
+        checkDivisor(divisor != 0);
+        return new LongValidator(
+                val -> val % divisor == 0,
+                "${actual} is not a multiple of ${expected}", () -> divisor
+        );
+    }
+
+    /**
+     * Fails when the actual int is not one of items. The items are indexed once, so each validation takes constant
+     * time without boxing the actual value, @see org.validcool.index.IntIndex. Boxed values may be null, which is
+     * not in items.
+     */
+    public static IntValidator inInt(int... items) {
+        int[] copy = items.clone();
+        IntIndex index = IntIndex.of(copy);
+        return new IntValidator(
+                index::contains,
+                "${actual} is not in ${expected}", () -> Arrays.toString(copy)
+        ) {
+            public @Override boolean test(Integer actual) {
+                return actual != null && index.contains(actual);
+            }
+
+            public @Override ValidationResult evaluate(Integer actual) {
+                return actual != null ? evaluate(actual.intValue()) : invalidResult();
+            }
+        };
+    }
+
+    public static LongValidator inLong(long... items) {
+        long[] copy = items.clone();
+        LongIndex index = LongIndex.of(copy);
+        return new LongValidator(
+                index::contains,
+                "${actual} is not in ${expected}", () -> Arrays.toString(copy)
+        ) {
+            public @Override boolean test(Long actual) {
+                return actual != null && index.contains(actual);
+            }
+
+            public @Override ValidationResult evaluate(Long actual) {
+                return actual != null ? evaluate(actual.longValue()) : invalidResult();
+            }
+        };
+    }
+
+    private static void checkBounds(boolean ordered, Object min, Object max) {
+        if(!ordered) {
+            throw new IllegalArgumentException("min must not be greater than max, but was " + min + " > " + max);
+        }
+    }
+
+    private static void checkDivisor(boolean nonZero) {
+        if(!nonZero) {
+            throw new IllegalArgumentException("divisor must not be 0");
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.validcool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, least recently used cache of compiled regex patterns, shared by all string validators.
+ * Patterns are keyed by their source and compile flags.
+ */
+final class PatternCache {
+
+    static final int DEFAULT_CAPACITY = 256;
+
+    static final PatternCache shared = new PatternCache(DEFAULT_CAPACITY);
+
+    private final CacheStatistics statistics = new CacheStatistics();
+    private final Map<Key, Pattern> patterns;
+
+    PatternCache(int capacity) {
+        this.patterns = new LinkedHashMap<Key, Pattern>(16, 0.75f, true) {
+            protected @Override boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+                if(size() > capacity) {
+                    statistics.recordEviction();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached pattern for source and flags, compiles and caches it when absent.
+     */
+    Pattern compile(String source, int flags) {
+        Key key = new Key(source, flags);
+        synchronized(patterns) {
+            Pattern pattern = patterns.get(key);
+            if(pattern != null) {
+                statistics.recordHit();
+                return pattern;
+            }
+        }
+        statistics.recordMiss();
+        // compile outside of the lock, a concurrent miss on the same key compiles twice but yields an equal pattern
+        Pattern pattern = Pattern.compile(source, flags);
+        synchronized(patterns) {
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private static final class Key {
+
+        private final String source;
+        private final int flags;
+
+        Key(String source, int flags) {
+            this.source = source;
+            this.flags = flags;
+        }
+
+        public @Override boolean equals(Object other) {
+            if(!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return flags == key.flags && source.equals(key.source);
+        }
+
+        public @Override int hashCode() {
+            return Objects.hash(source, flags);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.validcool;
+
+/**
+ * Common part of the validators of primitive values, @see org.validcool.IntValidator. Their composites keep the
+ * templates of both validators, so a composite renders a message and can be negated like any other validator, while
+ * evaluating a value reports the validator which actually failed.
+ */
+abstract class PrimitiveValidator<E> extends Validator<E> {
+
+    PrimitiveValidator(ErrorMessageTemplate errorMessageTemplate) {
+        super(null, errorMessageTemplate);
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        ValidationResult result = evaluate(actual);
+        return result.isValid() ? super.createErrorMessage(actual) : result.createErrorMessage(String.valueOf(actual));
+    }
+
+    /**
+     * Template of a composite of this and other, rendering the messages of both.
+     */
+    ErrorMessageTemplate combinedTemplate(Validator<E> other) {
+        return ErrorMessageTemplate.concat(";", getErrorMessageTemplate(), other.getErrorMessageTemplate());
+    }
+
+    /**
+     * Template of the negation of this, like @see org.validcool.Validations not.
+     */
+    ErrorMessageTemplate negatedTemplate() {
+        return getErrorMessageTemplate().replaceInLiterals("not ", "");
+    }
+
+    /**
+     * Result of an or composite, once its first validator failed.
+     */
+    static ValidationResult either(ValidationResult first, ValidationResult other) {
+        return other.isValid() ? other : ValidationResult.anyOf(first, other);
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.validcool;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.validcool.Validations.validcoolConfig;
+
+/**
+ * Lazy validation stages for streams and iterators. Valid elements are passed downstream, invalid ones are routed to
+ * a sink or to the configured failure handling. Elements are validated one at a time as they flow through, so memory
+ * stays constant however big the input is, and stages on parallel streams validate on all their threads.
+ */
+public class StreamValidations {
+
+    /**
+     * Filter passing valid elements. Invalid elements are handled with the settings in effect when the filter was
+     * created, @see org.validcool.ValidcoolConfiguration, by default this throws a ValidationException and ends the stream.
+     * The RETURN failure mode throws like THROW, so invalid elements are never dropped silently.
+     * Usage:
+     * <code>
+     *     lines.map(Record::parse).filter(validElements(isComplete())).forEach(repository::save);
+     * </code>
+     */
+    public static <E> Predicate<E> validElements(Validator<E> validator) {
+        // captured, so elements validated by the workers of a parallel stream are handled alike
+        ValidcoolSettings settings = validcoolConfig.current();
+        return (E actual) -> {
+            ValidationResult result = validator.evaluate(actual);
+            if(!result.isValid()) {
+                settings.handle(result, String.valueOf(actual), settings.getThrowingFailureMode());
+                return false;
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Filter passing valid elements. Invalid elements are passed to sink, together with their failed result bound to
+     * the element. On parallel streams the sink is called concurrently.
+     */
+    public static <E> Predicate<E> validElements(Validator<E> validator, BiConsumer<? super E, ValidationResult> sink) {
+        return (E actual) -> {
+            ValidationResult result = validator.evaluate(actual);
+            if(!result.isValid()) {
+                sink.accept(actual, result.describedAs(actual));
+                return false;
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Lazily validates the elements of actuals, passing only valid ones downstream and invalid ones to sink.
+     */
+    public static <E> Stream<E> validating(Stream<E> actuals, Validator<E> validator,
+                                           BiConsumer<? super E, ValidationResult> sink) {
+        return actuals.filter(validElements(validator, sink));
+    }
+
+    /**
+     * Lazily validates the elements of actuals, passing only valid ones downstream. Invalid elements are handled as
+     * configured in the @see org.validcool.ValidcoolConfiguration.
+     */
+    public static <E> Stream<E> validating(Stream<E> actuals, Validator<E> validator) {
+        return actuals.filter(validElements(validator));
+    }
+
+    /**
+     * Iterator over the valid elements of actuals, which are validated one by one while iterating. Invalid elements
+     * are passed to sink.
+     */
+    public static <E> Iterator<E> validating(Iterator<E> actuals, Validator<E> validator,
+                                             BiConsumer<? super E, ValidationResult> sink) {
+        return new ValidatingIterator<>(actuals, validElements(validator, sink));
+    }
+
+    /**
+     * Iterator over the valid elements of actuals, which are validated one by one while iterating. Invalid elements
+     * are handled as configured in the @see org.validcool.ValidcoolConfiguration.
+     */
+    public static <E> Iterator<E> validating(Iterator<E> actuals, Validator<E> validator) {
+        return new ValidatingIterator<>(actuals, validElements(validator));
+    }
+
+    private static final class ValidatingIterator<E> implements Iterator<E> {
+
+        private final Iterator<E> actuals;
+        private final Predicate<E> isValid;
+        private E next;
+        private boolean hasNext;
+
+        ValidatingIterator(Iterator<E> actuals, Predicate<E> isValid) {
+            this.actuals = actuals;
+            this.isValid = isValid;
+        }
+
+        public @Override boolean hasNext() {
+            while(!hasNext && actuals.hasNext()) {
+                E candidate = actuals.next();
+                if(isValid.test(candidate)) {
+                    next = candidate;
+                    hasNext = true;
+                }
+            }
+            return hasNext;
+        }
+
+        public @Override E next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E current = next;
+            next = null;
+            hasNext = false;
+            return current;
+        }
+    }
+
+}
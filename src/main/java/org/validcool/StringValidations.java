@@ -9,9 +9,17 @@ public class StringValidations {
      * Matches actual string against a regex pattern using @see java.util.regex.Pattern
      */
     public static <E extends CharSequence> Validator<E> matches(String pattern) {
+        return matches(pattern, 0);
+    }
+
+    /**
+     * Matches actual string against a regex pattern compiled with the specified @see java.util.regex.Pattern flags.
+     */
+    public static <E extends CharSequence> Validator<E> matches(String pattern, int flags) {
+        ThreadLocal<Matcher> matcher = matcherFor(pattern, flags);
         return new Validator<>(
-                (E value) -> Pattern.matches(pattern, value),
-                String.format("${actual} does not match \"%s\"", pattern)
+                (E value) -> matcher.get().reset(value).matches(),
+                "${actual} does not match \"${expected}\"", () -> pattern
         );
     }
 
@@ -21,7 +29,7 @@ public class StringValidations {
     public static <E extends String> Validator<E> isSubstringOf(String string) {
         return new Validator<>(
                 string::contains,
-                String.format("${actual} is no substring of \"%s\"", string)
+                "${actual} is no substring of \"${expected}\"", () -> string
         );
     }
 
@@ -31,60 +39,73 @@ public class StringValidations {
     public static <E extends String> Validator<E> contains(String other) {
         return new Validator<>(
                 (E value) -> value.contains(other),
-                String.format("${actual} does not contain \"%s\"", other)
+                "${actual} does not contain \"${expected}\"", () -> other
         );
     }
 
     public static <E extends String> Validator<E> containsPattern(String pattern) {
+        return containsPattern(pattern, 0);
+    }
+
+    /**
+     * Fails when no subsequence of actual matches the pattern compiled with the specified
+     * @see java.util.regex.Pattern flags.
+     */
+    public static <E extends String> Validator<E> containsPattern(String pattern, int flags) {
+        ThreadLocal<Matcher> matcher = matcherFor(pattern, flags);
         return new Validator<>(
-                val -> {
-                    Pattern p = Pattern.compile(pattern);
-                    Matcher m = p.matcher(val);
-                    return m.find();
-                },
-                String.format("${actual} does not contain pattern \"%s\"", pattern)
+                val -> matcher.get().reset(val).find(),
+                "${actual} does not contain pattern \"${expected}\"", () -> pattern
         );
     }
 
+    /**
+     * Compiles the pattern once, through the shared pattern cache, and hands out one reusable matcher per thread.
+     */
+    private static ThreadLocal<Matcher> matcherFor(String pattern, int flags) {
+        Pattern compiled = PatternCache.shared.compile(pattern, flags);
+        return ThreadLocal.withInitial(() -> compiled.matcher(""));
+    }
+
     public static <E extends String> Validator<E> hasLength(int length) {
         return new Validator<>(
                 val -> val.length() == length,
-                String.format("${actual} does not have length of %d", length)
+                "${actual} does not have length of ${expected}", () -> length
         );
     }
 
     public static <E extends String> Validator<E> lengthLowerThan(int maxLength) {
         return new Validator<>(
                 val -> val.length() < maxLength,
-                String.format("length of ${actual} is not lower than %d", maxLength)
+                "length of ${actual} is not lower than ${expected}", () -> maxLength
         );
     }
 
     public static <E extends String> Validator<E> lengthGreaterThan(int minLength) {
         return new Validator<>(
                 val -> val.length() < minLength,
-                String.format("length of ${actual} is not greater than %d", minLength)
+                "length of ${actual} is not greater than ${expected}", () -> minLength
         );
     }
 
     public static <E extends String> Validator<E> equalIgnoreCase(String other) {
         return new Validator<>(
                 (E value) -> other.compareToIgnoreCase(value) == 0,
-                String.format("${actual} does not equal to, ignoring case,  \"%s\"", other)
+                "${actual} does not equal to, ignoring case,  \"${expected}\"", () -> other
         );
     }
 
     public static <E extends String> Validator<E> startsWith(String start) {
         return new Validator<>(
                 (E value) -> value.startsWith(start),
-                String.format("${actual} does not start with \"%s\"", start)
+                "${actual} does not start with \"${expected}\"", () -> start
         );
     }
 
     public static <E extends String> Validator<E> endsWith(String end) {
         return new Validator<>(
                 (E value) -> value.endsWith(end),
-                String.format("${actual} does not end with \"%s\"", end)
+                "${actual} does not end with \"${expected}\"", () -> end
         );
     }
 
@@ -5,4 +5,12 @@ public class ValidationException extends RuntimeException {
     public ValidationException(String message) {
         super(message);
     }
+
+    /**
+     * @param captureStackTrace when false, neither a stack trace nor suppressed exceptions are recorded, which makes
+     *                          creating the exception about as cheap as creating its message
+     */
+    public ValidationException(String message, boolean captureStackTrace) {
+        super(message, null, captureStackTrace, captureStackTrace);
+    }
 }
@@ -0,0 +1,149 @@
+package org.validcool;
+
+/**
+ * Outcome of evaluating a validator on one actual value. All failure context lives in the result instead of the
+ * validator, so one validator graph can be evaluated by many threads at once. Error messages are only rendered when
+ * requested through createErrorMessage.
+ */
+public abstract class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult() {
+        public @Override boolean isValid() {
+            return true;
+        }
+
+        public @Override String createErrorMessage(String actualString) {
+            throw new UnsupportedOperationException("no error message present");
+        }
+    };
+
+    /**
+     * Shared result of every successful evaluation.
+     */
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * Failure of a single validator, rendered through its error message template.
+     */
+    public static ValidationResult invalid(Validator<?> validator) {
+        return new ValidationResult() {
+            public @Override boolean isValid() {
+                return false;
+            }
+
+            public @Override String createErrorMessage(String actualString) {
+                return validator.createErrorMessage(actualString);
+            }
+        };
+    }
+
+    /**
+     * Failure of a validator applied to a property of the actual value. The actual string gets the property name
+     * appended, or the selected value when no name was specified.
+     */
+    public static ValidationResult ofProperty(String propertyName, Object selection, ValidationResult cause) {
+        return new PropertyFailure(propertyName, selection, cause);
+    }
+
+    /**
+     * Failure of several alternative validators, which all failed. The message lists every cause.
+     */
+    public static ValidationResult anyOf(ValidationResult... causes) {
+        return new ValidationResult() {
+            public @Override boolean isValid() {
+                return false;
+            }
+
+            public @Override String createErrorMessage(String actualString) {
+                StringBuilder message = new StringBuilder();
+                for(ValidationResult cause : causes) {
+                    message.append(cause.createErrorMessage(actualString)).append(';');
+                }
+                return message.toString().trim();
+            }
+        };
+    }
+
+    /**
+     * Binds the actual value to this result, so the error message can be rendered without knowing the actual value.
+     * @param actual replaces the actual value in the message, turned into a string only once the message is rendered
+     */
+    public ValidationResult describedAs(Object actual) {
+        if(isValid()) {
+            return this;
+        }
+        return new DescribedFailure(this, actual);
+    }
+
+    public abstract boolean isValid();
+
+    /**
+     * Renders the error message of a result bound to its actual string through describedAs, as returned by
+     * validate when failing in @see org.validcool.FailureMode RETURN mode.
+     * @throws UnsupportedOperationException when the result is valid or not bound to an actual string
+     */
+    public String getErrorMessage() {
+        throw new UnsupportedOperationException(isValid()
+                ? "no error message present"
+                : "no actual value described, use createErrorMessage instead");
+    }
+
+    /**
+     * Renders the error message of this failure.
+     * @param actualString replaces the actual value in the message, for example a property name
+     * @throws UnsupportedOperationException when the result is valid
+     */
+    public abstract String createErrorMessage(String actualString);
+
+    private static final class DescribedFailure extends ValidationResult {
+
+        private final ValidationResult cause;
+        private final Object actual;
+
+        DescribedFailure(ValidationResult cause, Object actual) {
+            this.cause = cause;
+            this.actual = actual;
+        }
+
+        public @Override boolean isValid() {
+            return false;
+        }
+
+        public @Override ValidationResult describedAs(Object actual) {
+            return cause.describedAs(actual);
+        }
+
+        public @Override String createErrorMessage(String actualString) {
+            return cause.createErrorMessage(actualString);
+        }
+
+        public @Override String getErrorMessage() {
+            return cause.createErrorMessage(String.valueOf(actual));
+        }
+    }
+
+    private static final class PropertyFailure extends ValidationResult {
+
+        private final String propertyName;
+        private final Object selection;
+        private final ValidationResult cause;
+
+        PropertyFailure(String propertyName, Object selection, ValidationResult cause) {
+            this.propertyName = propertyName;
+            this.selection = selection;
+            this.cause = cause;
+        }
+
+        public @Override boolean isValid() {
+            return false;
+        }
+
+        public @Override String createErrorMessage(String actualString) {
+            String selectorString = propertyName != null ? propertyName : String.valueOf(selection);
+            return cause.createErrorMessage(actualString + "." + selectorString);
+        }
+    }
+
+}
@@ -1,17 +1,30 @@
 package org.validcool;
 
+import org.validcool.annotations.GraphValidationResult;
+import org.validcool.annotations.GraphValidations;
+import org.validcool.annotations.ValidationPlan;
 import org.validcool.asynch.AsynchValidation;
+import org.validcool.asynch.FailFastJoin;
 import org.validcool.asynch.ValidationHint;
+import org.validcool.index.MembershipIndex;
+import org.validcool.validators.AdaptiveAllValidator;
+import org.validcool.validators.AdaptiveAnyValidator;
 import org.validcool.validators.AllValidator;
 import org.validcool.validators.AnyValidator;
+import org.validcool.validators.CompiledValidator;
+import org.validcool.validators.NamedValidator;
+import org.validcool.validators.NotValidator;
 import org.validcool.validators.WithValidator;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static org.validcool.asynch.ValidationHint.SimpleComputing;
@@ -26,22 +39,97 @@ public class Validations {
     /**
      * Executes the specified validator with the actual value. Then it will use the configured handling function iff
      * an invalid result occurs. By default this will trigger a ValidationException with an autogenerated error message.
+     * With the RETURN failure mode configured, it throws like THROW, since there is no result to return.
      */
     public static <E> void validate(E actual, Validator<E> validator) {
-        if(!validator.test(actual)) {
-            validcoolConfig.handle(validator.createErrorMessage(actual));
-        }
+        ValidcoolSettings settings = validcoolConfig.current();
+        settings.validate(actual, validator, settings.getThrowingFailureMode());
+    }
+
+    /**
+     * Executes the specified validator with the actual value and handles an invalid result as specified by mode,
+     * instead of the configured failure mode.
+     * @return the result, bound to the actual value when failing in RETURN mode
+     */
+    public static <E> ValidationResult validate(E actual, Validator<E> validator, FailureMode mode) {
+        return validcoolConfig.current().validate(actual, validator, mode);
     }
 
     public static <E> void validate(String propertyName, E actual, Validator<E> validator) {
-        if(!validator.test(actual)) {
-            validcoolConfig.handle(validator.createErrorMessage(propertyName));
+        ValidcoolSettings settings = validcoolConfig.current();
+        settings.validate(propertyName, actual, validator, settings.getThrowingFailureMode());
+    }
+
+    /**
+     * @param propertyName Will replace the actual value in the error message
+     * @param mode handles an invalid result, instead of the configured failure mode
+     */
+    public static <E> ValidationResult validate(String propertyName, E actual, Validator<E> validator, FailureMode mode) {
+        return validcoolConfig.current().validate(propertyName, actual, validator, mode);
+    }
+
+    /**
+     * Executes the specified int validator with the actual value, without boxing it unless the validation fails.
+     * Invalid results are handled like @see org.validcool.Validations validate(Object, Validator).
+     */
+    public static void validate(int actual, IntValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.handle(result, String.valueOf(actual), settings.getThrowingFailureMode());
+        }
+    }
+
+    public static void validate(String propertyName, int actual, IntValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.handle(result, propertyName, settings.getThrowingFailureMode());
+        }
+    }
+
+    /**
+     * Executes the specified long validator with the actual value, without boxing it unless the validation fails.
+     */
+    public static void validate(long actual, LongValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.handle(result, String.valueOf(actual), settings.getThrowingFailureMode());
+        }
+    }
+
+    public static void validate(String propertyName, long actual, LongValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.handle(result, propertyName, settings.getThrowingFailureMode());
+        }
+    }
+
+    /**
+     * Executes the specified double validator with the actual value, without boxing it unless the validation fails.
+     */
+    public static void validate(double actual, DoubleValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.handle(result, String.valueOf(actual), settings.getThrowingFailureMode());
+        }
+    }
+
+    public static void validate(String propertyName, double actual, DoubleValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.handle(result, propertyName, settings.getThrowingFailureMode());
         }
     }
 
     /**
      * All specified validators have to succeed on the actual value.
      */
+    @SafeVarargs @SuppressWarnings("varargs")
     public static <E> Validator<E> all(Validator<E> ... validators) {
         return new AllValidator<>(Arrays.asList(validators));
     }
@@ -49,10 +137,55 @@ public class Validations {
     /**
      * At least one of the validators has to succeed on the actual value.
      */
+    @SafeVarargs @SuppressWarnings("varargs")
     public static <E> Validator<E> any(Validator<E> ... validators) {
         return new AnyValidator<>(Arrays.asList(validators));
     }
 
+    /**
+     * All specified validators have to succeed on the actual value. The validators are evaluated in an order learned
+     * at runtime, cheap and often failing validators first, while error messages stay those of declaration order,
+     * @see org.validcool.validators.AdaptiveAllValidator.
+     */
+    @SafeVarargs @SuppressWarnings("varargs")
+    public static <E> AdaptiveAllValidator<E> adaptiveAll(Validator<E> ... validators) {
+        return new AdaptiveAllValidator<>(Arrays.asList(validators));
+    }
+
+    /**
+     * At least one of the validators has to succeed on the actual value. The validators are evaluated in an order
+     * learned at runtime, cheap and often succeeding validators first, @see org.validcool.validators.AdaptiveAnyValidator.
+     */
+    @SafeVarargs @SuppressWarnings("varargs")
+    public static <E> AdaptiveAnyValidator<E> adaptiveAny(Validator<E> ... validators) {
+        return new AdaptiveAnyValidator<>(Arrays.asList(validators));
+    }
+
+    /**
+     * Caches the results of validator per actual value, keeping the maximumSize most recently used values.
+     * Useful for expensive validators, like lookups or heavy parsing, on values which repeat,
+     * @see org.validcool.MemoizingValidator.
+     */
+    public static <E> MemoizingValidator<E> memoized(Validator<E> validator, int maximumSize) {
+        return new MemoizingValidator<>(validator, maximumSize, null, false);
+    }
+
+    /**
+     * Caches the results of validator per actual value like memoized(validator, maximumSize), and evaluates values
+     * again once their result was cached for timeToLive.
+     */
+    public static <E> MemoizingValidator<E> memoized(Validator<E> validator, int maximumSize, Duration timeToLive) {
+        return new MemoizingValidator<>(validator, maximumSize, timeToLive, false);
+    }
+
+    /**
+     * Caches the results of validator per actual value like memoized(validator, maximumSize), but only references the
+     * actual values weakly, so cached values are dropped once they are no longer used elsewhere.
+     */
+    public static <E> MemoizingValidator<E> memoizedWeakly(Validator<E> validator, int maximumSize) {
+        return new MemoizingValidator<>(validator, maximumSize, null, true);
+    }
+
     /**
      * Prepares asynchronous validation on the actual value. It classifies the validation action as
      * @see org.validcool.asynch.ValidationHint SimpleComputing by default.
@@ -61,7 +194,7 @@ public class Validations {
      * @see org.validcool.asynch.AsynchValidation instances.
      * @param propertyName Will replace the actual value in the error message
      */
-    public static <E>AsynchValidation validateAsynch(String propertyName, E actual, Validator<E> validator) {
+    public static <E> AsynchValidation<E> validateAsynch(String propertyName, E actual, Validator<E> validator) {
         return new AsynchValidation<>(propertyName, actual, validator, SimpleComputing);
     }
 
@@ -74,8 +207,8 @@ public class Validations {
      * @param propertyName Will replace the actual value in the error message
      * @param hint indicates wheter the validation shall be executed in its own execution unit
      */
-    public static <E>AsynchValidation validateAsynch(String propertyName, E actual,
-                                                     Validator<E> validator, ValidationHint hint) {
+    public static <E> AsynchValidation<E> validateAsynch(String propertyName, E actual,
+                                                         Validator<E> validator, ValidationHint hint) {
         return new AsynchValidation<>(propertyName, actual, validator, hint);
     }
 
@@ -86,7 +219,7 @@ public class Validations {
      * CompletableFuture instance, or you use the validate-function collecting multiple
      * @see org.validcool.asynch.AsynchValidation instances.
      */
-    public static <E>AsynchValidation validateAsynch(E actual, Validator<E> validator) {
+    public static <E> AsynchValidation<E> validateAsynch(E actual, Validator<E> validator) {
         return new AsynchValidation<>(null, actual, validator, SimpleComputing);
     }
 
@@ -98,51 +231,113 @@ public class Validations {
      * @see org.validcool.asynch.AsynchValidation instances.
      * @param hint indicates wheter the validation shall be executed in its own execution unit
      */
-    public static <E>AsynchValidation validateAsynch(E actual, Validator<E> validator, ValidationHint hint) {
+    public static <E> AsynchValidation<E> validateAsynch(E actual, Validator<E> validator, ValidationHint hint) {
         return new AsynchValidation<>(null, actual, validator, hint);
     }
 
     /**
-     * Executes and joins multiple asynchronous validations on the JVMs common ForkJoinPool. It will collect all
-     * @see org.validcool.asynch.AsynchValidation instances hinted with SimpleComputing into one task, and all other
-     * into seperate tasks, to reach an optimal execution time.
+     * Executes and joins multiple asynchronous validations on the executors configured for their hints in the
+     * settings each validation captured. It will collect all @see org.validcool.asynch.AsynchValidation instances
+     * hinted with SimpleComputing into one task, and all other into seperate tasks, to reach an optimal execution time.
+     * When fail fast is configured, it behaves like validateFailFast.
      */
-    public static void validate(AsynchValidation... validations) {
-        List<AsynchValidation> list = Arrays.asList(validations);
+    public static void validate(AsynchValidation<?>... validations) {
+        if(validcoolConfig.isFailFast()) {
+            validateFailFast(validations);
+            return;
+        }
         List<CompletableFuture<Boolean>> futures = new ArrayList<>();
-        Queue<AsynchValidation> simpleValidation = new LinkedList<>();
-        list.forEach(v -> {
+        forEachTask(validations, () -> false, (task, settings, hint) ->
+                futures.add(CompletableFuture.supplyAsync(task, settings.getExecutor(hint))));
+        try {
+            CompletableFuture<?>[] futureArray = futures.toArray(new CompletableFuture<?>[futures.size()]);
+            CompletableFuture.allOf(futureArray)
+                    .join();
+        } catch(CompletionException exception) {
+            throw (RuntimeException)exception.getCause();
+        }
+    }
+
+    /**
+     * Executes and joins multiple asynchronous validations like validate, but completes with the first failing
+     * validation. Validations not started yet are cancelled. Those still running are interrupted on the default IO
+     * executor only, on any other executor they run to completion, @see org.validcool.asynch.FailFastJoin.
+     * Like executors, ownership is decided by the settings each validation captured.
+     */
+    public static void validateFailFast(AsynchValidation<?>... validations) {
+        FailFastJoin join = new FailFastJoin();
+        forEachTask(validations, join::isCompleted, (task, settings, hint) ->
+                join.add(task::get, settings.getExecutor(hint), settings.ownsExecutor(hint)));
+        join.join();
+    }
+
+    /**
+     * Groups the validations into tasks, one for all SimpleComputing validations and one for each other, paired
+     * with the settings captured by their validation and their hint. The SimpleComputing task runs with the settings
+     * of its first validation.
+     * @param cancelled tells the SimpleComputing task to skip its remaining validations
+     */
+    private static void forEachTask(AsynchValidation<?>[] validations, BooleanSupplier cancelled,
+                                    TaskConsumer consumer) {
+        Queue<AsynchValidation<?>> simpleValidation = new LinkedList<>();
+        for(AsynchValidation<?> v : validations) {
             switch(v.getHint()) {
                 case IoOperation:
                 case HeavyComputing:
-                    futures.add(CompletableFuture.supplyAsync(v::validate));
+                    consumer.accept(v::validate, v.getSettings(), v.getHint());
                     break;
                 case SimpleComputing:
                     simpleValidation.offer(v);
                     break;
             }
-        });
-        futures.add(CompletableFuture.supplyAsync(() -> simpleValidation.stream().allMatch(AsynchValidation::validate)));
-        try {
-            CompletableFuture[] futureArray = new CompletableFuture[futures.size()];
-            futureArray = futures.toArray(futureArray);
-            CompletableFuture.allOf(futureArray)
-                    .join();
-        } catch(CompletionException exception) {
-            throw (RuntimeException)exception.getCause();
+        }
+        if(!simpleValidation.isEmpty()) {
+            consumer.accept(() -> simpleValidation.stream().allMatch(v -> cancelled.getAsBoolean() || v.validate()),
+                    simpleValidation.peek().getSettings(), SimpleComputing);
         }
     }
 
+    private interface TaskConsumer {
+        void accept(Supplier<Boolean> task, ValidcoolSettings settings, ValidationHint hint);
+    }
+
     /**
      * Executes the specified validator with the actual value. It will trigger the configured logging mechanism iff enabled,
      * and return true iff the validation was successful.
      */
     public static <E> boolean check(E actual, Validator<E> validator) {
-        boolean isValid = validator.test(actual);
-        if(!isValid) {
-            validcoolConfig.logIfEnabled(validator.createErrorMessage(actual));
+        return validcoolConfig.current().check(actual, validator);
+    }
+
+    /**
+     * Executes the specified int validator with the actual value, without boxing it unless the validation fails.
+     * It will trigger the configured logging mechanism iff enabled, and return true iff the validation was successful.
+     */
+    public static boolean check(int actual, IntValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.logIfEnabled(result.createErrorMessage(String.valueOf(actual)));
+        }
+        return result.isValid();
+    }
+
+    public static boolean check(long actual, LongValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.logIfEnabled(result.createErrorMessage(String.valueOf(actual)));
+        }
+        return result.isValid();
+    }
+
+    public static boolean check(double actual, DoubleValidator validator) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        ValidationResult result = settings.evaluate(validator, actual);
+        if(!result.isValid()) {
+            settings.logIfEnabled(result.createErrorMessage(String.valueOf(actual)));
         }
-        return isValid;
+        return result.isValid();
     }
 
     /**
@@ -151,7 +346,17 @@ public class Validations {
      * and return true iff the validation was successful.
      */
     public static <E> CompletableFuture<Boolean> checkAsynch(E actual, Validator<E> validator) {
-        return CompletableFuture.supplyAsync(() -> check(actual, validator));
+        return checkAsynch(actual, validator, SimpleComputing);
+    }
+
+    /**
+     * Executes the specified validator with the actual value <b>asynchronously</b>, on the executor configured for
+     * hint. It will trigger the configured logging mechanism iff enabled,
+     * and return true iff the validation was successful.
+     */
+    public static <E> CompletableFuture<Boolean> checkAsynch(E actual, Validator<E> validator, ValidationHint hint) {
+        ValidcoolSettings settings = validcoolConfig.current();
+        return CompletableFuture.supplyAsync(() -> settings.check(actual, validator), settings.getExecutor(hint));
     }
 
     /**
@@ -169,6 +374,47 @@ public class Validations {
         return new WithValidator<>(propertyName, selector, validator);
     }
 
+    /**
+     * Names validator, so it is identified by name instead of its error message pattern in validation metrics,
+     * @see org.validcool.ValidcoolConfiguration setMetrics.
+     */
+    public static <E> Validator<E> named(String name, Validator<E> validator) {
+        return new NamedValidator<>(name, validator);
+    }
+
+    /**
+     * Validator built from validation annotations like @see org.validcool.annotations.NotNull on the fields and
+     * accessors of type. The class is reflected once, later calls return the cached plan,
+     * see org.validcool.annotations.ValidationPlan.
+     */
+    public static <E> Validator<E> annotated(Class<E> type) {
+        return ValidationPlan.of(type);
+    }
+
+    /**
+     * Validates actual with the validation plan of its class, @see org.validcool.Validations annotated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ValidationResult validateAnnotated(E actual) {
+        if(actual == null) {
+            throw new IllegalArgumentException("tried to validate annotations of null", new NullPointerException());
+        }
+        return validcoolConfig.current().validate(actual, ValidationPlan.of((Class<E>) actual.getClass()));
+    }
+
+    /**
+     * Validates root and the nested entities and collections reachable through properties annotated with Valid,
+     * returning every failure with its path, like order.lines[42].quantity. Never calls the configured error
+     * handler, @see org.validcool.annotations.GraphValidations.
+     */
+    public static GraphValidationResult validateGraph(String rootName, Object root) {
+        return GraphValidations.validateGraph(rootName, root);
+    }
+
+    public static GraphValidationResult validateGraph(Object root) {
+        return GraphValidations.validateGraph(root);
+    }
+
     /**
      * Fails when actual value is not null.
      */
@@ -186,41 +432,66 @@ public class Validations {
      * </code>
      */
     public static <E> Validator<E> not(Validator<E> validator) {
-        return new Validator<>(
-                val -> !validator.test(val),
-                validator.getErrorMessagePattern().replace("not ", "")
-        );
+        return new NotValidator<>(validator);
+    }
+
+    /**
+     * Compiles a finished validator tree built from all, any, not and with into one method handle, which the JIT can
+     * inline as a whole instead of calling through every composite. The compiled validator performs the same checks
+     * and reports the same error messages, @see org.validcool.validators.CompiledValidator.
+     */
+    public static <E> Validator<E> compile(Validator<E> validator) {
+        return new CompiledValidator<>(validator);
     }
 
     /**
      * Fails when the actual value is not contained in the specified collection.
-     * The collection must not be null.
+     * The collection must not be null. It is indexed once, when the validator is created, so each validation takes
+     * constant or logarithmic time, @see org.validcool.index.MembershipIndex. Sets are used as they are, other
+     * collections must not change after the validator was created.
      */
     public static <E> Validator<E> in(Collection<E> items) {
+        MembershipIndex<E> index = MembershipIndex.of(items);
         return new Validator<>(
-                items::contains,
-                String.format("${actual} is not in %s", Arrays.toString(items.toArray()))
+                index::contains,
+                "${actual} is not in ${expected}", () -> Arrays.toString(items.toArray())
         );
     }
 
+    /**
+     * Fails when the actual value is not one of items. The items are indexed once without boxing them, so each
+     * validation of an int takes constant time without boxing it, @see org.validcool.NumberValidations inInt.
+     * Used as a Validator&lt;Integer&gt;, a null value is not in items.
+     */
+    public static IntValidator inInts(int... items) {
+        return NumberValidations.inInt(items);
+    }
+
+    /**
+     * Fails when the actual value is not one of items, like inInts, @see org.validcool.NumberValidations inLong.
+     */
+    public static LongValidator inLongs(long... items) {
+        return NumberValidations.inLong(items);
+    }
+
     public static <E extends Comparable<E>> Validator<E> greaterThan(E other) {
         return new Validator<>(
                 val -> val.compareTo(other) > 0,
-                String.format("${actual} is not greater than %s", other)
+                "${actual} is not greater than ${expected}", () -> other
         );
     }
 
     public static <E extends Comparable<E>> Validator<E> lowerThan(E other) {
         return new Validator<>(
                 val -> val.compareTo(other) < 0,
-                String.format("${actual} is not lower than %s", other)
+                "${actual} is not lower than ${expected}", () -> other
         );
     }
 
     public static <E> Validator<E> equalTo(E other) {
         return new Validator<>(
                 val -> val.equals(other),
-                String.format("${actual} is not equal to %s", other)
+                "${actual} is not equal to ${expected}", () -> other
         );
     }
 
@@ -240,7 +511,7 @@ public class Validations {
         }
         return new Validator<>(
                 predicate,
-                String.format("${actual} %s %s", verb, description)
+                "${actual} " + verb + " " + description
         );
     }
 
@@ -1,7 +1,13 @@
 package org.validcool;
 
-
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Unit of validation. One validator performs one act of validation on a supplied value.
@@ -10,8 +16,22 @@ import java.util.function.Predicate;
  */
 public class Validator<E> {
 
-    private Predicate<E> validator;
-    private String errorMessagePattern;
+    private static final MethodHandle TEST;
+
+    static {
+        try {
+            TEST = MethodHandles.lookup().findVirtual(Validator.class, "test",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch(ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Predicate<E> validator;
+    private final ErrorMessageTemplate errorMessageTemplate;
+    private final ValidationResult invalid = ValidationResult.invalid(this);
+    // racy single check, names are immutable strings and computing one twice does no harm
+    private String name;
 
     /**
      * @param validator performs the validation
@@ -19,24 +39,148 @@ public class Validator<E> {
      *                            actual value
      */
     public Validator(Predicate<E> validator, String errorMessagePattern) {
+        this(validator, errorMessagePattern == null ? null : new ErrorMessageTemplate(errorMessagePattern));
+    }
+
+    /**
+     * @param validator performs the validation
+     * @param errorMessagePattern output when error occurs, when contains "${actual}" this will be replaced with the
+     *                            actual value, and "${expected}" with the value of expected
+     * @param expected supplies the expected value, it is only called once an error message is requested
+     */
+    public Validator(Predicate<E> validator, String errorMessagePattern, Supplier<?> expected) {
+        this(validator, new ErrorMessageTemplate(errorMessagePattern, expected));
+    }
+
+    public Validator(Predicate<E> validator, ErrorMessageTemplate errorMessageTemplate) {
         this.validator = validator;
-        this.errorMessagePattern = errorMessagePattern;
+        this.errorMessageTemplate = errorMessageTemplate;
     }
 
     public boolean test(E actual) {
         return validator.test(actual);
     }
 
+    /**
+     * Evaluates the actual value and returns a result carrying everything needed to describe a failure.
+     * Validators keep no state between evaluations, so they can be shared by any number of threads.
+     */
+    public ValidationResult evaluate(E actual) {
+        return test(actual) ? ValidationResult.valid() : invalid;
+    }
+
+    /**
+     * The failed result of this validator, shared by all failing evaluations.
+     */
+    protected ValidationResult invalidResult() {
+        return invalid;
+    }
+
     public String createErrorMessage(E actual) {
         return createErrorMessage(String.valueOf(actual));
     }
 
     public String createErrorMessage(String actualString) {
-        return errorMessagePattern.replace("${actual}", actualString);
+        return errorMessageTemplate.render(actualString);
     }
 
     public String getErrorMessagePattern() {
-        return errorMessagePattern;
+        return errorMessageTemplate == null ? null : errorMessageTemplate.getPattern();
+    }
+
+    /**
+     * Identifies this validator in validation metrics, @see org.validcool.metrics.ValidationMetrics. It is computed
+     * once by createName.
+     */
+    public String getName() {
+        String name = this.name;
+        if(name == null) {
+            name = createName();
+            this.name = name;
+        }
+        return name;
+    }
+
+    /**
+     * The name of this validator: the text of its error message template with the placeholders left in place, so the
+     * expected value is never rendered for it, or the class name for validators without a template. Composites
+     * override it to name themselves after their validators, like all(a, b).
+     */
+    protected String createName() {
+        return errorMessageTemplate != null ? errorMessageTemplate.getText() : getClass().getName();
+    }
+
+    /**
+     * Method handle of type (Object)boolean performing test on this validator. Composites combine the method handles
+     * of their children, so @see org.validcool.Validations compile can turn a whole validator tree into one method
+     * handle.
+     */
+    public MethodHandle asMethodHandle() {
+        return TEST.bindTo(this);
+    }
+
+    /**
+     * Names of the properties of the actual value this validator reads, as named through @see org.validcool.Validations
+     * with. Null when it may read anything of the actual value, like every validator applied to the actual value
+     * itself. Used by @see org.validcool.IncrementalValidation to revalidate only the validators depending on a
+     * changed property.
+     */
+    public Set<String> getPropertyNames() {
+        return null;
+    }
+
+    /**
+     * Name of a composite of validators, like kind(a, b).
+     */
+    protected static String nameOf(String kind, Validator<?>... validators) {
+        StringBuilder name = new StringBuilder(kind).append('(');
+        for(int i = 0; i < validators.length; i++) {
+            name.append(i == 0 ? "" : ", ").append(validators[i].getName());
+        }
+        return name.append(')').toString();
+    }
+
+    /**
+     * Error messages of all validators joined by separator, like "a or b", for composites which cannot tell the
+     * failing validators from an actual string alone. Empty messages are skipped, those of nested composites, which
+     * have no template of their own, are put in parentheses.
+     */
+    protected static String errorMessagesOf(Validator<?>[] validators, String actualString, String separator) {
+        StringBuilder message = new StringBuilder();
+        for(Validator<?> validator : validators) {
+            String validatorMessage = validator.createErrorMessage(actualString);
+            if(validatorMessage.isEmpty()) {
+                continue;
+            }
+            if(message.length() > 0) {
+                message.append(separator);
+            }
+            if(validator.errorMessageTemplate == null) {
+                message.append('(').append(validatorMessage).append(')');
+            } else {
+                message.append(validatorMessage);
+            }
+        }
+        return message.toString();
+    }
+
+    /**
+     * Union of the property names of validators, null when one of them may read anything of the actual value.
+     */
+    protected static Set<String> propertyNamesOf(Validator<?>[] validators) {
+        Set<String> names = new HashSet<>();
+        for(Validator<?> validator : validators) {
+            Set<String> validatorNames = validator.getPropertyNames();
+            if(validatorNames == null) {
+                return null;
+            }
+            names.addAll(validatorNames);
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    public ErrorMessageTemplate getErrorMessageTemplate() {
+        return errorMessageTemplate;
     }
 
 }
@@ -1,45 +1,121 @@
 package org.validcool;
 
+import org.validcool.asynch.ValidationHint;
+import org.validcool.metrics.ValidationMetrics;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
- * Central point of configuration for validcool.
+ * Central point of configuration for validcool. It holds the global @see org.validcool.ValidcoolSettings snapshot,
+ * which each setter replaces atomically with a changed copy, so every thread sees either the old or the new settings
+ * as a whole. Threads can run with other settings than the global ones through runWith, for example one per tenant.
+ * Getters return the settings in effect for the calling thread.
  * @author amp
  * @since 1.0
  */
 public class ValidcoolConfiguration {
 
-    private boolean logErrorMessages;
-    private Consumer<String> errorLogger;
-    private Consumer<String> errorHandler;
+    private final AtomicReference<ValidcoolSettings> settings = new AtomicReference<>(ValidcoolSettings.defaults());
+    private final ThreadLocal<ValidcoolSettings> scopedSettings = new ThreadLocal<>();
+    // lets the common case, no thread running with scoped settings, skip the thread local lookup
+    private final AtomicInteger scopes = new AtomicInteger();
 
     ValidcoolConfiguration() {
-        logErrorMessages = false;
-        errorLogger = System.err::println;
-        errorHandler = (String message) -> {
-            throw new ValidationException(message);
-        };
+    }
+
+    /**
+     * The settings in effect for the calling thread: the ones passed to the innermost runWith, or else the global
+     * settings.
+     */
+    public ValidcoolSettings current() {
+        if(scopes.get() == 0) {
+            return settings.get();
+        }
+        ValidcoolSettings scoped = scopedSettings.get();
+        return scoped != null ? scoped : settings.get();
+    }
+
+    /**
+     * The global settings, in effect for all threads not running with scoped settings.
+     */
+    public ValidcoolSettings getSettings() {
+        return settings.get();
+    }
+
+    /**
+     * Replaces the global settings.
+     */
+    public void setSettings(ValidcoolSettings settings) {
+        if(settings == null) {
+            throw new IllegalArgumentException("tried to set validcool settings to null", new NullPointerException());
+        }
+        this.settings.set(settings);
+    }
+
+    /**
+     * Atomically replaces the global settings with the result of update, retrying when another thread changed the
+     * settings concurrently. So update must not have side effects.
+     * @return the new global settings
+     */
+    public ValidcoolSettings update(UnaryOperator<ValidcoolSettings> update) {
+        return settings.updateAndGet(update);
+    }
+
+    /**
+     * Runs action with settings in effect for the calling thread, instead of the global settings. Validations started
+     * asynchronously by action capture these settings when they are created. Calls can be nested.
+     * @return the result of action
+     */
+    public <T> T runWith(ValidcoolSettings settings, Supplier<T> action) {
+        if(settings == null) {
+            throw new IllegalArgumentException("tried to run with validcool settings null", new NullPointerException());
+        }
+        ValidcoolSettings outer = scopedSettings.get();
+        scopedSettings.set(settings);
+        scopes.incrementAndGet();
+        try {
+            return action.get();
+        } finally {
+            scopes.decrementAndGet();
+            if(outer == null) {
+                scopedSettings.remove();
+            } else {
+                scopedSettings.set(outer);
+            }
+        }
+    }
+
+    public void runWith(ValidcoolSettings settings, Runnable action) {
+        runWith(settings, () -> {
+            action.run();
+            return null;
+        });
     }
 
     /**
      * When a validation fails, it will be logged.
      */
     public void startLogging() {
-        this.logErrorMessages = true;
+        update(settings -> settings.withLogging(true));
     }
 
     /**
      * Stops to logIfEnabled error messages when validations fail.
      */
     public void stopLogging() {
-        this.logErrorMessages = false;
+        update(settings -> settings.withLogging(false));
     }
 
     /**
      * Whether error messages are logged when validations fail.
      */
     public boolean isLogging() {
-        return this.logErrorMessages;
+        return current().isLogging();
     }
 
     /**
@@ -47,16 +123,14 @@ public class ValidcoolConfiguration {
      * By default all error messages are redirected to System.err.
      */
     public void setErrorLogger(Consumer<String> errorLogger) {
-        this.errorLogger = errorLogger;
+        update(settings -> settings.withErrorLogger(errorLogger));
     }
 
     /**
      * Logs the specified error message iff logging is enabled (by calling startLogging).
      */
     void logIfEnabled(String errorMessage) {
-        if(logErrorMessages) {
-            errorLogger.accept(errorMessage);
-        }
+        current().logIfEnabled(errorMessage);
     }
 
     /**
@@ -64,18 +138,105 @@ public class ValidcoolConfiguration {
      * By default an org.validcool.ValidationException is thrown.
      */
     public void setErrorHandler(Consumer<String> errorHandler) {
-        if(errorHandler == null) {
-            throw new IllegalArgumentException("tried to set validcool error handling function to null", new NullPointerException());
-        }
-        this.errorHandler = errorHandler;
+        update(settings -> settings.withErrorHandler(errorHandler));
+    }
+
+    /**
+     * Tells validcool what to do when a validation fails, unless a failure mode is specified on the validate call.
+     * By default the error handler is called. RETURN only applies to validations returning their result, all others
+     * handle failures like THROW.
+     */
+    public void setFailureMode(FailureMode failureMode) {
+        update(settings -> settings.withFailureMode(failureMode));
+    }
+
+    public FailureMode getFailureMode() {
+        return current().getFailureMode();
+    }
+
+    /**
+     * Tells validcool where to run asynchronous validations hinted with hint. By default SimpleComputing and
+     * HeavyComputing validations run on the JVMs common ForkJoinPool, and IoOperation validations on a dedicated
+     * executor, @see org.validcool.asynch.ValidationExecutors newIoExecutor.
+     * @param executor null restores the default executor
+     */
+    public void setExecutor(ValidationHint hint, Executor executor) {
+        update(settings -> settings.withExecutor(hint, executor));
+    }
+
+    /**
+     * The executor running asynchronous validations hinted with hint.
+     */
+    public Executor getExecutor(ValidationHint hint) {
+        return current().getExecutor(hint);
+    }
+
+    /**
+     * When enabled, joining multiple asynchronous validations completes with the first failure and cancels the
+     * remaining validations, interrupting their threads. By default all validations run to completion.
+     */
+    public void setFailFast(boolean failFast) {
+        update(settings -> settings.withFailFast(failFast));
+    }
+
+    public boolean isFailFast() {
+        return current().isFailFast();
+    }
+
+    /**
+     * Number of values from which on validcool splits work on batches and big collections across the cores.
+     * Smaller inputs are validated on the calling thread. By default 8192.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        update(settings -> settings.withParallelThreshold(parallelThreshold));
+    }
+
+    public int getParallelThreshold() {
+        return current().getParallelThreshold();
+    }
+
+    /**
+     * Records every validation run through validate or check, @see org.validcool.metrics.StripedValidationMetrics
+     * for the default implementation. By default metrics are disabled, which leaves validations uninstrumented.
+     * @param metrics null disables metrics
+     */
+    public void setMetrics(ValidationMetrics metrics) {
+        update(settings -> settings.withMetrics(metrics));
+    }
+
+    public ValidationMetrics getMetrics() {
+        return current().getMetrics();
+    }
+
+    /**
+     * Hit and miss counts of the compiled regex pattern cache shared by @see org.validcool.StringValidations.
+     */
+    public CacheStatistics getPatternCacheStatistics() {
+        return PatternCache.shared.getStatistics();
+    }
+
+    /**
+     * Hit, miss and eviction counts summed over all memoizing validators, @see org.validcool.Validations memoized.
+     * Each validator reports its own counts through getStatistics.
+     */
+    public CacheStatistics getMemoizationStatistics() {
+        return MemoizingValidator.shared;
     }
 
     /**
      * Handles validation error as specified in the configuration class.
      */
     public void handle(String errorMessage) {
-        logIfEnabled(errorMessage);
-        this.errorHandler.accept(errorMessage);
+        current().handle(errorMessage);
+    }
+
+    /**
+     * Handles a failed validation result according to the failure mode.
+     * @param actualString replaces the actual value in the error message
+     * @return the result bound to actualString, iff the failure mode or the error handler did not throw
+     */
+    public ValidationResult handle(ValidationResult result, String actualString, FailureMode mode) {
+        return current().handle(result, actualString, mode);
     }
 
 }
@@ -0,0 +1,343 @@
+package org.validcool;
+
+import org.validcool.asynch.ValidationExecutors;
+import org.validcool.asynch.ValidationHint;
+import org.validcool.metrics.ValidationMetrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Immutable snapshot of the validcool configuration. Every with-method returns a changed copy, so a snapshot can be
+ * shared by any number of threads and read without synchronization. Snapshots take effect globally through
+ * @see org.validcool.ValidcoolConfiguration setSettings, for the current thread through runWith, or for a single
+ * call through the validate and check methods of the snapshot itself.
+ */
+public final class ValidcoolSettings {
+
+    private static final ValidcoolSettings DEFAULTS = new ValidcoolSettings(
+            false,
+            System.err::println,
+            (String message) -> {
+                throw new ValidationException(message);
+            },
+            FailureMode.THROW,
+            Collections.emptyMap(),
+            false,
+            8192,
+            null);
+
+    private final boolean logErrorMessages;
+    private final Consumer<String> errorLogger;
+    private final Consumer<String> errorHandler;
+    private final FailureMode failureMode;
+    private final Map<ValidationHint, Executor> executors;
+    private final boolean failFast;
+    private final int parallelThreshold;
+    private final ValidationMetrics metrics;
+
+    private ValidcoolSettings(boolean logErrorMessages, Consumer<String> errorLogger, Consumer<String> errorHandler,
+                              FailureMode failureMode, Map<ValidationHint, Executor> executors, boolean failFast,
+                              int parallelThreshold, ValidationMetrics metrics) {
+        this.logErrorMessages = logErrorMessages;
+        this.errorLogger = errorLogger;
+        this.errorHandler = errorHandler;
+        this.failureMode = failureMode;
+        this.executors = executors;
+        this.failFast = failFast;
+        this.parallelThreshold = parallelThreshold;
+        this.metrics = metrics;
+    }
+
+    /**
+     * The settings validcool starts with: no logging, errors logged to System.err once logging is enabled, and
+     * failed validations throwing an org.validcool.ValidationException.
+     */
+    public static ValidcoolSettings defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Whether failed validations are logged through the error logger.
+     */
+    public ValidcoolSettings withLogging(boolean logErrorMessages) {
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode, executors, failFast,
+                parallelThreshold, metrics);
+    }
+
+    /**
+     * How to log error messages when validations fail. By default all error messages are redirected to System.err.
+     */
+    public ValidcoolSettings withErrorLogger(Consumer<String> errorLogger) {
+        if(errorLogger == null) {
+            throw new IllegalArgumentException("tried to set validcool error logger to null", new NullPointerException());
+        }
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode, executors, failFast,
+                parallelThreshold, metrics);
+    }
+
+    /**
+     * How to handle failed validations. By default an org.validcool.ValidationException is thrown.
+     */
+    public ValidcoolSettings withErrorHandler(Consumer<String> errorHandler) {
+        if(errorHandler == null) {
+            throw new IllegalArgumentException("tried to set validcool error handling function to null", new NullPointerException());
+        }
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode, executors, failFast,
+                parallelThreshold, metrics);
+    }
+
+    /**
+     * What to do when a validation fails, unless a failure mode is specified on the validate call.
+     * By default the error handler is called.
+     */
+    public ValidcoolSettings withFailureMode(FailureMode failureMode) {
+        if(failureMode == null) {
+            throw new IllegalArgumentException("tried to set validcool failure mode to null", new NullPointerException());
+        }
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode, executors, failFast,
+                parallelThreshold, metrics);
+    }
+
+    /**
+     * Where to run asynchronous validations hinted with hint. By default SimpleComputing and HeavyComputing
+     * validations run on the JVMs common ForkJoinPool, and IoOperation validations on a dedicated executor,
+     * @see org.validcool.asynch.ValidationExecutors newIoExecutor.
+     * @param executor null restores the default executor
+     */
+    public ValidcoolSettings withExecutor(ValidationHint hint, Executor executor) {
+        Map<ValidationHint, Executor> changed = new EnumMap<>(ValidationHint.class);
+        changed.putAll(executors);
+        if(executor == null) {
+            changed.remove(hint);
+        } else {
+            changed.put(hint, executor);
+        }
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode,
+                Collections.unmodifiableMap(changed), failFast, parallelThreshold, metrics);
+    }
+
+    /**
+     * When enabled, joining multiple asynchronous validations completes with the first failure and cancels the
+     * remaining validations, interrupting their threads. By default all validations run to completion.
+     */
+    public ValidcoolSettings withFailFast(boolean failFast) {
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode, executors, failFast,
+                parallelThreshold, metrics);
+    }
+
+    /**
+     * Number of values from which on validcool splits work on batches and big collections across the cores.
+     * Smaller inputs are validated on the calling thread. By default 8192.
+     */
+    public ValidcoolSettings withParallelThreshold(int parallelThreshold) {
+        if(parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallel threshold must be positive, but was " + parallelThreshold);
+        }
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode, executors, failFast,
+                parallelThreshold, metrics);
+    }
+
+    /**
+     * Records every validation run through validate or check, @see org.validcool.metrics.StripedValidationMetrics
+     * for the default implementation. By default metrics are disabled, which leaves validations uninstrumented.
+     * @param metrics null disables metrics
+     */
+    public ValidcoolSettings withMetrics(ValidationMetrics metrics) {
+        return new ValidcoolSettings(logErrorMessages, errorLogger, errorHandler, failureMode, executors, failFast,
+                parallelThreshold, metrics);
+    }
+
+    public boolean isLogging() {
+        return logErrorMessages;
+    }
+
+    public FailureMode getFailureMode() {
+        return failureMode;
+    }
+
+    /**
+     * The failure mode of validations which cannot return their result, like the void validate methods: THROW when
+     * RETURN is configured, since the failure would be discarded otherwise.
+     */
+    public FailureMode getThrowingFailureMode() {
+        return failureMode == FailureMode.RETURN ? FailureMode.THROW : failureMode;
+    }
+
+    /**
+     * The executor running asynchronous validations hinted with hint.
+     */
+    public Executor getExecutor(ValidationHint hint) {
+        Executor executor = executors.get(hint);
+        if(executor != null) {
+            return executor;
+        }
+        return hint == ValidationHint.IoOperation ? DefaultIoExecutor.instance : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Whether validations hinted with hint run on an executor created by validcool, the default IO executor, whose
+     * threads may be interrupted to cancel them.
+     */
+    boolean ownsExecutor(ValidationHint hint) {
+        return hint == ValidationHint.IoOperation && executors.get(hint) == null;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Executes the specified validator with the actual value under these settings, regardless of the settings in
+     * effect for the current thread. Invalid results are handled by the failure mode of these settings.
+     */
+    public <E> ValidationResult validate(E actual, Validator<E> validator) {
+        return validate(actual, validator, failureMode);
+    }
+
+    /**
+     * @param propertyName Will replace the actual value in the error message
+     */
+    public <E> ValidationResult validate(String propertyName, E actual, Validator<E> validator) {
+        return validate(propertyName, actual, validator, failureMode);
+    }
+
+    /**
+     * Executes the specified validator with the actual value under these settings and handles an invalid result as
+     * specified by mode.
+     * @return the result, bound to the actual value when failing in RETURN mode
+     */
+    public <E> ValidationResult validate(E actual, Validator<E> validator, FailureMode mode) {
+        ValidationResult result = evaluate(validator, actual);
+        if(!result.isValid()) {
+            return handle(result, String.valueOf(actual), mode);
+        }
+        return result;
+    }
+
+    /**
+     * @param propertyName Will replace the actual value in the error message
+     * @param mode handles an invalid result
+     */
+    public <E> ValidationResult validate(String propertyName, E actual, Validator<E> validator, FailureMode mode) {
+        ValidationResult result = evaluate(validator, actual);
+        if(!result.isValid()) {
+            return handle(result, propertyName, mode);
+        }
+        return result;
+    }
+
+    /**
+     * Executes the specified validator with the actual value under these settings. It will log failures iff logging
+     * is enabled, and return true iff the validation was successful.
+     */
+    public <E> boolean check(E actual, Validator<E> validator) {
+        ValidationResult result = evaluate(validator, actual);
+        if(!result.isValid()) {
+            logIfEnabled(result.createErrorMessage(String.valueOf(actual)));
+        }
+        return result.isValid();
+    }
+
+    /**
+     * Evaluates validator and records the validation in the metrics. Without metrics it does not read the clock.
+     */
+    <E> ValidationResult evaluate(Validator<E> validator, E actual) {
+        if(metrics == null) {
+            return validator.evaluate(actual);
+        }
+        long start = System.nanoTime();
+        ValidationResult result = validator.evaluate(actual);
+        metrics.record(validator, result.isValid(), System.nanoTime() - start);
+        return result;
+    }
+
+    ValidationResult evaluate(IntValidator validator, int actual) {
+        if(metrics == null) {
+            return validator.evaluate(actual);
+        }
+        long start = System.nanoTime();
+        ValidationResult result = validator.evaluate(actual);
+        metrics.record(validator, result.isValid(), System.nanoTime() - start);
+        return result;
+    }
+
+    ValidationResult evaluate(LongValidator validator, long actual) {
+        if(metrics == null) {
+            return validator.evaluate(actual);
+        }
+        long start = System.nanoTime();
+        ValidationResult result = validator.evaluate(actual);
+        metrics.record(validator, result.isValid(), System.nanoTime() - start);
+        return result;
+    }
+
+    ValidationResult evaluate(DoubleValidator validator, double actual) {
+        if(metrics == null) {
+            return validator.evaluate(actual);
+        }
+        long start = System.nanoTime();
+        ValidationResult result = validator.evaluate(actual);
+        metrics.record(validator, result.isValid(), System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Logs the specified error message iff logging is enabled.
+     */
+    void logIfEnabled(String errorMessage) {
+        if(logErrorMessages) {
+            errorLogger.accept(errorMessage);
+        }
+    }
+
+    /**
+     * Handles validation error with the error handler.
+     */
+    void handle(String errorMessage) {
+        logIfEnabled(errorMessage);
+        errorHandler.accept(errorMessage);
+    }
+
+    /**
+     * Handles a failed validation result according to the failure mode.
+     * @param actualString replaces the actual value in the error message
+     * @return the result bound to actualString, iff the failure mode or the error handler did not throw
+     */
+    ValidationResult handle(ValidationResult result, String actualString, FailureMode mode) {
+        switch(mode) {
+            case RETURN:
+                if(logErrorMessages) {
+                    logIfEnabled(result.createErrorMessage(actualString));
+                }
+                break;
+            case THROW_STACKLESS:
+                String errorMessage = result.createErrorMessage(actualString);
+                logIfEnabled(errorMessage);
+                throw new ValidationException(errorMessage, false);
+            default:
+                handle(result.createErrorMessage(actualString));
+        }
+        return result.describedAs(actualString);
+    }
+
+    /**
+     * Holds the default IO executor, which is only created once an IoOperation validation runs.
+     */
+    private static final class DefaultIoExecutor {
+        static final Executor instance = ValidationExecutors.newIoExecutor();
+    }
+
+}
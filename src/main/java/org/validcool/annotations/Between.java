@@ -0,0 +1,21 @@
+package org.validcool.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated number must be between min and max, both inclusive, like @see org.validcool.NumberValidations between.
+ * Applies to int, long and double properties and their wrappers.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Between {
+
+    long min();
+
+    long max();
+}
@@ -0,0 +1,131 @@
+package org.validcool.annotations;
+
+import org.validcool.ValidationResult;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Outcome of validating an object graph with @see org.validcool.annotations.GraphValidations. It keeps every failing
+ * property in traversal order, with its path from the root like order.lines[42].quantity. Paths and error messages
+ * are only rendered when requested.
+ */
+public class GraphValidationResult {
+
+    private final int checkedCount;
+    private final PropertyPath[] paths;
+    private final String[] propertyNames;
+    private final ValidationResult[] results;
+
+    GraphValidationResult(Failures failures) {
+        this.checkedCount = failures.checkedCount;
+        this.paths = Arrays.copyOf(failures.paths, failures.size);
+        this.propertyNames = Arrays.copyOf(failures.propertyNames, failures.size);
+        this.results = Arrays.copyOf(failures.results, failures.size);
+    }
+
+    /**
+     * True iff no property failed.
+     */
+    public boolean isValid() {
+        return results.length == 0;
+    }
+
+    /**
+     * Number of validated objects in the graph.
+     */
+    public int getCheckedCount() {
+        return checkedCount;
+    }
+
+    public int getFailureCount() {
+        return results.length;
+    }
+
+    /**
+     * Path of the failing property from the root, like order.lines[42].quantity.
+     * @param failure between 0 and getFailureCount() - 1
+     */
+    public String getPath(int failure) {
+        return paths[failure] + "." + propertyNames[failure];
+    }
+
+    /**
+     * @param failure between 0 and getFailureCount() - 1
+     */
+    public ValidationResult getResult(int failure) {
+        return results[failure];
+    }
+
+    /**
+     * @param failure between 0 and getFailureCount() - 1
+     */
+    public String getErrorMessage(int failure) {
+        return results[failure].createErrorMessage(paths[failure].toString());
+    }
+
+    /**
+     * Error messages of all failures, in traversal order, rendered when accessed.
+     */
+    public List<String> getErrorMessages() {
+        return new AbstractList<String>() {
+            public @Override String get(int failure) {
+                return getErrorMessage(failure);
+            }
+
+            public @Override int size() {
+                return results.length;
+            }
+        };
+    }
+
+    /**
+     * Growable, ordered buffer of failures collected while traversing one part of a graph.
+     */
+    static final class Failures {
+
+        private PropertyPath[] paths = new PropertyPath[0];
+        private String[] propertyNames = new String[0];
+        private ValidationResult[] results = new ValidationResult[0];
+        private int size;
+        private int checkedCount;
+
+        void checked() {
+            checkedCount++;
+        }
+
+        /**
+         * @param path of the object owning the failing property
+         */
+        void add(PropertyPath path, String propertyName, ValidationResult result) {
+            ensureCapacity(size + 1);
+            paths[size] = path;
+            propertyNames[size] = propertyName;
+            results[size] = result;
+            size++;
+        }
+
+        /**
+         * Appends the failures of other, which were found after those of this buffer in traversal order.
+         */
+        void append(Failures other) {
+            checkedCount += other.checkedCount;
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.paths, 0, paths, size, other.size);
+            System.arraycopy(other.propertyNames, 0, propertyNames, size, other.size);
+            System.arraycopy(other.results, 0, results, size, other.size);
+            size += other.size;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if(capacity > paths.length) {
+                int newCapacity = Math.max(capacity, Math.max(8, paths.length * 2));
+                paths = Arrays.copyOf(paths, newCapacity);
+                propertyNames = Arrays.copyOf(propertyNames, newCapacity);
+                results = Arrays.copyOf(results, newCapacity);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.validcool.annotations;
+
+import org.validcool.ValidationResult;
+import org.validcool.annotations.GraphValidationResult.Failures;
+import org.validcool.validators.WithValidator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+import static org.validcool.Validations.validcoolConfig;
+
+/**
+ * Validates whole object graphs. Every object is validated with the validation plan of its class, @see ValidationPlan,
+ * and properties annotated with @see Valid are followed into nested entities and into the elements of collections,
+ * arrays and map values. Collections of at least the configured parallel threshold are split across the cores with
+ * fork/join.
+ * An object is not followed again while it is one of its own parents, compared by identity, so cyclic graphs
+ * terminate. Objects reachable over several paths are validated once per path.
+ * Validation never stops at the first invalid property and never calls the configured error handler, instead all
+ * failures are returned with their paths in a @see org.validcool.annotations.GraphValidationResult.
+ */
+public class GraphValidations {
+
+    /**
+     * Validates the graph reachable from root, paths start with root turned into a string.
+     */
+    public static GraphValidationResult validateGraph(Object root) {
+        return validateGraph(String.valueOf(root), root);
+    }
+
+    /**
+     * Validates the graph reachable from root, paths start with rootName, like order.lines[42].quantity.
+     */
+    public static GraphValidationResult validateGraph(String rootName, Object root) {
+        if(root == null) {
+            throw new IllegalArgumentException("tried to validate graph of null", new NullPointerException());
+        }
+        Failures failures = new Failures();
+        // forked tasks run on other threads, which do not see settings scoped to this one
+        validateNested(PropertyPath.root(rootName, root), root, validcoolConfig.getParallelThreshold(), failures);
+        return new GraphValidationResult(failures);
+    }
+
+    private static void validate(PropertyPath path, Object actual, int parallelThreshold, Failures failures) {
+        ValidationPlan plan = ValidationPlan.planOf(actual.getClass());
+        failures.checked();
+        // the compiled plan decides valid objects at once, only invalid ones are evaluated property by property
+        if(!plan.getValidator().test(actual)) {
+            for(WithValidator<Object, Object> property : plan.getProperties()) {
+                ValidationResult result = property.evaluate(actual);
+                if(!result.isValid()) {
+                    failures.add(path, property.getPropertyName(), result);
+                }
+            }
+        }
+        for(ValidationPlan.Nested nested : plan.getNested()) {
+            Object value = get(nested.getter, actual);
+            if(value != null && !path.contains(value)) {
+                validateNested(path.property(nested.name, value), value, parallelThreshold, failures);
+            }
+        }
+    }
+
+    /**
+     * Validates value, or each of its elements when it is a collection, an array or a map.
+     */
+    private static void validateNested(PropertyPath path, Object value, int parallelThreshold, Failures failures) {
+        if(value instanceof Map) {
+            for(Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                validateElement(path, entry.getKey(), entry.getValue(), parallelThreshold, failures);
+            }
+        } else if(value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            validateElements(path, array.length, i -> array[i], parallelThreshold, failures);
+        } else if(value instanceof List && value instanceof RandomAccess) {
+            List<?> list = (List<?>) value;
+            validateElements(path, list.size(), list::get, parallelThreshold, failures);
+        } else if(value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            if(collection.size() >= parallelThreshold) {
+                Object[] array = collection.toArray();
+                validateElements(path, array.length, i -> array[i], parallelThreshold, failures);
+            } else {
+                int index = 0;
+                for(Object element : collection) {
+                    validateElement(path, index++, element, parallelThreshold, failures);
+                }
+            }
+        } else {
+            validate(path, value, parallelThreshold, failures);
+        }
+    }
+
+    private static void validateElements(PropertyPath path, int size, IntFunction<?> elements, int parallelThreshold,
+                                         Failures failures) {
+        if(size < parallelThreshold) {
+            for(int i = 0; i < size; i++) {
+                validateElement(path, i, elements.apply(i), parallelThreshold, failures);
+            }
+        } else {
+            int leafSize = (int) Math.max(1024, size / (8L * ForkJoinPool.getCommonPoolParallelism()));
+            failures.append(new ElementsTask(path, elements, 0, size, leafSize, parallelThreshold).invoke());
+        }
+    }
+
+    private static void validateElement(PropertyPath path, Object key, Object element, int parallelThreshold,
+                                        Failures failures) {
+        if(element != null && !path.contains(element)) {
+            validateNested(path.element(key, element), element, parallelThreshold, failures);
+        }
+    }
+
+    private static Object get(MethodHandle getter, Object actual) {
+        try {
+            return getter.invokeExact(actual);
+        } catch(RuntimeException | Error e) {
+            throw e;
+        } catch(Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Validates an index range of elements, splitting it in halves until they are no longer than leafSize.
+     */
+    @SuppressWarnings("serial")
+    private static final class ElementsTask extends RecursiveTask<Failures> {
+
+        private final PropertyPath path;
+        private final IntFunction<?> elements;
+        private final int from, to, leafSize, parallelThreshold;
+
+        ElementsTask(PropertyPath path, IntFunction<?> elements, int from, int to, int leafSize,
+                     int parallelThreshold) {
+            this.path = path;
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        protected @Override Failures compute() {
+            if(to - from <= leafSize) {
+                Failures failures = new Failures();
+                for(int i = from; i < to; i++) {
+                    validateElement(path, i, elements.apply(i), parallelThreshold, failures);
+                }
+                return failures;
+            }
+            int middle = (from + to) >>> 1;
+            ElementsTask right = new ElementsTask(path, elements, middle, to, leafSize, parallelThreshold);
+            right.fork();
+            Failures left = new ElementsTask(path, elements, from, middle, leafSize, parallelThreshold).compute();
+            left.append(right.join());
+            return left;
+        }
+    }
+
+}
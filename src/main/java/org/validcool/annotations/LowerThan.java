@@ -0,0 +1,19 @@
+package org.validcool.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated number must be lower than value, like @see org.validcool.Validations lowerThan.
+ * Applies to int, long and double properties and their wrappers.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface LowerThan {
+
+    long value();
+}
@@ -0,0 +1,23 @@
+package org.validcool.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must match the regex pattern value, like @see org.validcool.StringValidations matches.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Matches {
+
+    String value();
+
+    /**
+     * Flags the pattern is compiled with, @see java.util.regex.Pattern.
+     */
+    int flags() default 0;
+}
@@ -0,0 +1,19 @@
+package org.validcool.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated number must be a multiple of value, like @see org.validcool.NumberValidations multipleOf.
+ * Applies to int and long properties and their wrappers.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface MultipleOf {
+
+    long value();
+}
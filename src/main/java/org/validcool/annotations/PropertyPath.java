@@ -0,0 +1,71 @@
+package org.validcool.annotations;
+
+/**
+ * Path from the root of a validated object graph to one object in it, like order.lines[42]. Each node only links to
+ * its parent, so the path is only turned into a string when a failure is reported.
+ */
+final class PropertyPath {
+
+    private final PropertyPath parent;
+    private final String name;
+    private final Object key;
+    private final Object value;
+
+    private PropertyPath(PropertyPath parent, String name, Object key, Object value) {
+        this.parent = parent;
+        this.name = name;
+        this.key = key;
+        this.value = value;
+    }
+
+    static PropertyPath root(String name, Object value) {
+        return new PropertyPath(null, name, null, value);
+    }
+
+    /**
+     * Path of the property name of the object at this path.
+     */
+    PropertyPath property(String name, Object value) {
+        return new PropertyPath(this, name, null, value);
+    }
+
+    /**
+     * Path of the element at index or key of the collection, array or map at this path.
+     */
+    PropertyPath element(Object key, Object value) {
+        return new PropertyPath(this, null, key, value);
+    }
+
+    /**
+     * Whether value is the object at this path or at one of its parents, compared by identity.
+     */
+    boolean contains(Object value) {
+        for(PropertyPath path = this; path != null; path = path.parent) {
+            if(path.value == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public @Override String toString() {
+        StringBuilder path = new StringBuilder();
+        append(path);
+        return path.toString();
+    }
+
+    private void append(StringBuilder path) {
+        if(parent != null) {
+            parent.append(path);
+        }
+        if(name == null) {
+            path.append('[').append(key).append(']');
+        } else {
+            if(parent != null) {
+                path.append('.');
+            }
+            path.append(name);
+        }
+    }
+
+}
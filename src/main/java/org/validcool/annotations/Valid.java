@@ -0,0 +1,17 @@
+package org.validcool.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated entity, or each entity in the annotated collection, array or map values, is validated with the
+ * validation plan of its own class by @see org.validcool.annotations.GraphValidations validateGraph.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Valid {
+}
@@ -0,0 +1,334 @@
+package org.validcool.annotations;
+
+import org.validcool.CollectionValidations;
+import org.validcool.NumberValidations;
+import org.validcool.StringValidations;
+import org.validcool.Validations;
+import org.validcool.Validator;
+import org.validcool.validators.AllValidator;
+import org.validcool.validators.NullableValidator;
+import org.validcool.validators.WithValidator;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Validator built from the validation annotations, like @see NotNull, on the fields and accessors of a class.
+ * The class and its superclasses are reflected only once, when the plan of the class is first requested. Each
+ * annotated property becomes a @see org.validcool.validators.WithValidator reading the property through a method
+ * handle, and the whole plan is compiled, @see org.validcool.Validations compile, so validating an instance runs the
+ * same checks as a hand-written validator. Plans are cached per class in a ClassValue, which does not keep the class
+ * from being unloaded.
+ * Properties of reference types are only validated when not null, unless annotated with NotNull or NotEmpty.
+ * Properties annotated with Valid are not followed by the plan itself, @see GraphValidations validates them.
+ */
+public final class ValidationPlan {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ValidationPlan> plans = new ClassValue<ValidationPlan>() {
+        protected @Override ValidationPlan computeValue(Class<?> type) {
+            return new ValidationPlan(type);
+        }
+    };
+
+    private final Validator<Object> validator;
+    private final WithValidator<Object, Object>[] properties;
+    private final Nested[] nested;
+
+    @SuppressWarnings("unchecked")
+    private ValidationPlan(Class<?> type) {
+        List<WithValidator<Object, Object>> properties = new ArrayList<>();
+        List<Nested> nested = new ArrayList<>();
+        addProperties(type, properties, nested);
+        this.validator = Validations.compile(new AllValidator<>(new ArrayList<Validator<Object>>(properties)));
+        this.properties = (WithValidator<Object, Object>[])
+                properties.toArray(new WithValidator<?, ?>[properties.size()]);
+        this.nested = nested.toArray(new Nested[nested.size()]);
+    }
+
+    /**
+     * The validation plan of type, built on the first call for type.
+     * @throws IllegalArgumentException when an annotation does not apply to the type of its property, or annotates
+     * a static member or a method that is no accessor
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Validator<E> of(Class<E> type) {
+        if(type == null) {
+            throw new IllegalArgumentException("tried to build validation plan of type null", new NullPointerException());
+        }
+        return (Validator<E>) plans.get(type).validator;
+    }
+
+    static ValidationPlan planOf(Class<?> type) {
+        return plans.get(type);
+    }
+
+    /**
+     * Compiled validator of all annotated properties.
+     */
+    Validator<Object> getValidator() {
+        return validator;
+    }
+
+    /**
+     * One validator per annotated property, in the order they are validated.
+     */
+    WithValidator<Object, Object>[] getProperties() {
+        return properties;
+    }
+
+    /**
+     * Properties annotated with @see Valid, in the order they are validated.
+     */
+    Nested[] getNested() {
+        return nested;
+    }
+
+    /**
+     * Adds the annotated properties of type, those of its superclasses first.
+     */
+    private static void addProperties(Class<?> type, List<WithValidator<Object, Object>> properties,
+                                      List<Nested> nested) {
+        if(type == null || type == Object.class) {
+            return;
+        }
+        addProperties(type.getSuperclass(), properties, nested);
+        for(Field field : type.getDeclaredFields()) {
+            if(isAnnotated(field)) {
+                checkInstanceMember(field.getModifiers(), field.getName());
+                field.setAccessible(true);
+                addProperty(field, field.getName(), field.getType(), unreflectGetter(field), properties, nested);
+            }
+        }
+        // reflection returns methods in no particular order
+        Method[] methods = type.getDeclaredMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        for(Method method : methods) {
+            if(!method.isBridge() && isAnnotated(method)) {
+                checkInstanceMember(method.getModifiers(), method.getName());
+                if(method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                    throw new IllegalArgumentException("validation annotations only apply to accessors without "
+                            + "parameters, not to " + method);
+                }
+                method.setAccessible(true);
+                addProperty(method, propertyName(method.getName()), method.getReturnType(), unreflect(method),
+                        properties, nested);
+            }
+        }
+    }
+
+    private static void addProperty(AccessibleObject member, String name, Class<?> type, MethodHandle getter,
+                                    List<WithValidator<Object, Object>> properties, List<Nested> nested) {
+        getter = getter.asType(GETTER_TYPE);
+        Valid valid = member.getAnnotation(Valid.class);
+        if(valid != null) {
+            if(type.isPrimitive()) {
+                throw unsupported(valid, name, type);
+            }
+            nested.add(new Nested(name, getter));
+        }
+        WithValidator<Object, Object> property = property(member, name, type, getter);
+        if(property != null) {
+            properties.add(property);
+        }
+    }
+
+    /**
+     * @return null when the property is only annotated with Valid
+     */
+    private static WithValidator<Object, Object> property(AccessibleObject member, String name, Class<?> type,
+                                                          MethodHandle getter) {
+        List<Validator<Object>> validators = new ArrayList<>();
+        boolean notNull = member.isAnnotationPresent(NotNull.class);
+        NotEmpty notEmpty = member.getAnnotation(NotEmpty.class);
+        if(notNull || (notEmpty != null && Collection.class.isAssignableFrom(type))) {
+            validators.add(Validations.not(Validations.nullValue()));
+        }
+        if(notEmpty != null) {
+            if(type == String.class) {
+                validators.add(untyped(Validations.not(StringValidations.isNullOrEmptyString())));
+            } else if(Collection.class.isAssignableFrom(type)) {
+                validators.add(untyped(Validations.not(CollectionValidations.isEmptyCollection())));
+            } else {
+                throw unsupported(notEmpty, name, type);
+            }
+        }
+        Class<?> numberType = boxed(type);
+        GreaterThan greaterThan = member.getAnnotation(GreaterThan.class);
+        if(greaterThan != null) {
+            long value = greaterThan.value();
+            if(numberType == Integer.class) {
+                validators.add(untyped(NumberValidations.greaterThanInt(toInt(value, greaterThan, name))));
+            } else if(numberType == Long.class) {
+                validators.add(untyped(NumberValidations.greaterThanLong(value)));
+            } else if(numberType == Double.class) {
+                validators.add(untyped(NumberValidations.greaterThanDouble((double) value)));
+            } else {
+                throw unsupported(greaterThan, name, type);
+            }
+        }
+        LowerThan lowerThan = member.getAnnotation(LowerThan.class);
+        if(lowerThan != null) {
+            long value = lowerThan.value();
+            if(numberType == Integer.class) {
+                validators.add(untyped(NumberValidations.lowerThanInt(toInt(value, lowerThan, name))));
+            } else if(numberType == Long.class) {
+                validators.add(untyped(NumberValidations.lowerThanLong(value)));
+            } else if(numberType == Double.class) {
+                validators.add(untyped(NumberValidations.lowerThanDouble((double) value)));
+            } else {
+                throw unsupported(lowerThan, name, type);
+            }
+        }
+        Between between = member.getAnnotation(Between.class);
+        if(between != null) {
+            if(numberType == Integer.class) {
+                validators.add(untyped(NumberValidations.betweenInt(toInt(between.min(), between, name),
+                        toInt(between.max(), between, name))));
+            } else if(numberType == Long.class) {
+                validators.add(untyped(NumberValidations.betweenLong(between.min(), between.max())));
+            } else if(numberType == Double.class) {
+                validators.add(untyped(NumberValidations.betweenDouble((double) between.min(), (double) between.max())));
+            } else {
+                throw unsupported(between, name, type);
+            }
+        }
+        MultipleOf multipleOf = member.getAnnotation(MultipleOf.class);
+        if(multipleOf != null) {
+            if(numberType == Integer.class) {
+                validators.add(untyped(NumberValidations.multipleOf(toInt(multipleOf.value(), multipleOf, name))));
+            } else if(numberType == Long.class) {
+                validators.add(untyped(NumberValidations.multipleOf(multipleOf.value())));
+            } else {
+                throw unsupported(multipleOf, name, type);
+            }
+        }
+        Matches matches = member.getAnnotation(Matches.class);
+        if(matches != null) {
+            if(!CharSequence.class.isAssignableFrom(type)) {
+                throw unsupported(matches, name, type);
+            }
+            validators.add(untyped(StringValidations.matches(matches.value(), matches.flags())));
+        }
+        HasLength hasLength = member.getAnnotation(HasLength.class);
+        if(hasLength != null) {
+            if(type != String.class) {
+                throw unsupported(hasLength, name, type);
+            }
+            validators.add(untyped(StringValidations.hasLength(hasLength.value())));
+        }
+        if(validators.isEmpty()) {
+            return null;
+        }
+        Validator<Object> validator = validators.size() == 1 ? validators.get(0) : new AllValidator<>(validators);
+        if(!type.isPrimitive() && !notNull && notEmpty == null) {
+            validator = new NullableValidator<>(validator);
+        }
+        return new WithValidator<>(name, getter, validator);
+    }
+
+    private static boolean isAnnotated(AccessibleObject member) {
+        for(Annotation annotation : member.getDeclaredAnnotations()) {
+            if(annotation.annotationType().getPackage() == ValidationPlan.class.getPackage()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void checkInstanceMember(int modifiers, String name) {
+        if(Modifier.isStatic(modifiers)) {
+            throw new IllegalArgumentException("validation annotations only apply to instance members, not to static "
+                    + name);
+        }
+    }
+
+    /**
+     * Strips the get or is prefix of accessor names, getFirstName becomes firstName.
+     */
+    private static String propertyName(String methodName) {
+        for(String prefix : new String[] { "get", "is" }) {
+            if(methodName.length() > prefix.length() && methodName.startsWith(prefix)
+                    && Character.isUpperCase(methodName.charAt(prefix.length()))) {
+                String name = methodName.substring(prefix.length());
+                return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+            }
+        }
+        return methodName;
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            return lookup.unreflectGetter(field);
+        } catch(IllegalAccessException e) {
+            throw new IllegalArgumentException("cannot read annotated field " + field, e);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch(IllegalAccessException e) {
+            throw new IllegalArgumentException("cannot call annotated accessor " + method, e);
+        }
+    }
+
+    private static int toInt(long value, Annotation annotation, String name) {
+        if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("@" + annotation.annotationType().getSimpleName() + " value " + value
+                    + " is out of range of int property " + name);
+        }
+        return (int) value;
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if(type == int.class) {
+            return Integer.class;
+        }
+        if(type == long.class) {
+            return Long.class;
+        }
+        if(type == double.class) {
+            return Double.class;
+        }
+        return type;
+    }
+
+    private static IllegalArgumentException unsupported(Annotation annotation, String name, Class<?> type) {
+        return new IllegalArgumentException("@" + annotation.annotationType().getSimpleName()
+                + " does not apply to property " + name + " of type " + type.getName());
+    }
+
+    /**
+     * Property annotated with @see Valid, whose value is validated with the plan of its own class.
+     */
+    static final class Nested {
+
+        final String name;
+        final MethodHandle getter;
+
+        Nested(String name, MethodHandle getter) {
+            this.name = name;
+            this.getter = getter;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Validator<Object> untyped(Validator<?> validator) {
+        return (Validator<Object>) validator;
+    }
+
+}
@@ -0,0 +1,251 @@
+package org.validcool.asynch;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Error logger which hands messages to a background thread, so validating threads do not wait for the logger, for
+ * instance on the lock of System.err during a failure storm. Messages go into a bounded, lock-free ring buffer, and a
+ * daemon thread drains it in batches of up to BATCH_SIZE messages. When the buffer is full, the overflow policy
+ * decides whether messages are dropped, sampled or the validating thread waits. Use it as error logger:
+ * <code>
+ *     validcoolConfig.setErrorLogger(AsynchErrorLogger.toPrintStream(System.err, 8192, OverflowPolicy.DROP));
+ * </code>
+ */
+public class AsynchErrorLogger implements Consumer<String>, AutoCloseable {
+
+    public static final int BATCH_SIZE = 256;
+
+    private static final long IDLE_NANOS = 10_000_000;
+    private static final long BLOCKED_NANOS = 100_000;
+
+    private final Consumer<List<String>> batchLogger;
+    private final OverflowPolicy overflowPolicy;
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<String> messages;
+    // slot i is free for the producer claiming position p iff sequences[i] == p, and filled iff it is p + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    // written by the drain thread only, after the batch was handled
+    private volatile long processed;
+    private volatile long logged;
+    private volatile boolean draining = true;
+    private volatile boolean idle;
+    private volatile boolean closed;
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong overflows = new AtomicLong();
+    private final Thread drainer;
+
+    private AsynchErrorLogger(Consumer<List<String>> batchLogger, int capacity, OverflowPolicy overflowPolicy) {
+        if(capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2, but was " + capacity);
+        }
+        if(overflowPolicy == null) {
+            throw new IllegalArgumentException("tried to set overflow policy to null", new NullPointerException());
+        }
+        this.batchLogger = batchLogger;
+        this.overflowPolicy = overflowPolicy;
+        this.capacity = capacity <= 1 << 30 ? Integer.highestOneBit(capacity - 1) << 1 : 1 << 30;
+        this.mask = this.capacity - 1;
+        this.messages = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for(int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.drainer = new Thread(this::drain, "validcool-error-logger");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Logs each message with logger on the background thread, in the order the messages were accepted.
+     * @param capacity number of buffered messages, rounded up to a power of two
+     */
+    public static AsynchErrorLogger of(Consumer<String> logger, int capacity, OverflowPolicy overflowPolicy) {
+        return new AsynchErrorLogger(batch -> batch.forEach(logger), capacity, overflowPolicy);
+    }
+
+    /**
+     * Passes batches of up to BATCH_SIZE messages to batchLogger on the background thread.
+     * @param capacity number of buffered messages, rounded up to a power of two
+     */
+    public static AsynchErrorLogger ofBatches(Consumer<List<String>> batchLogger, int capacity, OverflowPolicy overflowPolicy) {
+        return new AsynchErrorLogger(batchLogger, capacity, overflowPolicy);
+    }
+
+    /**
+     * Prints each batch of messages to stream with a single print call, so the stream is locked once per batch
+     * instead of once per message.
+     * @param capacity number of buffered messages, rounded up to a power of two
+     */
+    public static AsynchErrorLogger toPrintStream(PrintStream stream, int capacity, OverflowPolicy overflowPolicy) {
+        String lineSeparator = System.lineSeparator();
+        return new AsynchErrorLogger(batch -> {
+            StringBuilder lines = new StringBuilder();
+            for(String message : batch) {
+                lines.append(message).append(lineSeparator);
+            }
+            stream.print(lines);
+            stream.flush();
+        }, capacity, overflowPolicy);
+    }
+
+    /**
+     * Buffers message for the background thread, or handles it by the overflow policy when the buffer is full.
+     * Messages accepted after close are dropped.
+     */
+    public @Override void accept(String message) {
+        if(closed) {
+            dropped.increment();
+            return;
+        }
+        if(overflowPolicy == OverflowPolicy.SAMPLE && tail.get() - head >= capacity / 2) {
+            // sampled by count of overflowing messages, so it needs no shared random state
+            if(overflows.getAndIncrement() % OverflowPolicy.SAMPLE_RATE != 0) {
+                dropped.increment();
+                return;
+            }
+        }
+        while(!offer(message)) {
+            if(overflowPolicy != OverflowPolicy.BLOCK || closed) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, BLOCKED_NANOS);
+        }
+        if(idle) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    private boolean offer(String message) {
+        long position = tail.get();
+        while(true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if(difference == 0) {
+                if(tail.compareAndSet(position, position + 1)) {
+                    messages.lazySet(index, message);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if(difference < 0) {
+                // the slot still holds the message written a lap ago, so the buffer is full
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Only called by the drain thread.
+     */
+    private String poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if(sequences.get(index) != position + 1) {
+            return null;
+        }
+        String message = messages.get(index);
+        messages.lazySet(index, null);
+        sequences.lazySet(index, position + capacity);
+        head = position + 1;
+        return message;
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while(true) {
+            for(String message = poll(); message != null; message = batch.size() < BATCH_SIZE ? poll() : null) {
+                batch.add(message);
+            }
+            if(!batch.isEmpty()) {
+                try {
+                    batchLogger.accept(batch);
+                    logged += batch.size();
+                } catch(RuntimeException e) {
+                    // a failing logger must not stop the drain thread, the batch is lost
+                    dropped.add(batch.size());
+                }
+                processed += batch.size();
+                batch.clear();
+                continue;
+            }
+            if(closed && tail.get() == head) {
+                draining = false;
+                return;
+            }
+            idle = true;
+            // checked again, a producer may have missed idle being set
+            if(tail.get() == head && !closed) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+            idle = false;
+        }
+    }
+
+    /**
+     * Waits until all messages accepted before were passed to the logger.
+     */
+    public void flush() {
+        long accepted = tail.get();
+        while(processed < accepted && draining) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, BLOCKED_NANOS);
+        }
+    }
+
+    /**
+     * Logs the buffered messages and stops the background thread. Messages accepted afterwards are dropped.
+     * When the calling thread is interrupted, it stops waiting for the background thread with its interrupt status
+     * set, while the background thread still logs the buffered messages.
+     */
+    public @Override void close() {
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Number of messages which were not logged, because the buffer was full, they were not sampled, the logger was
+     * closed or the logger failed on their batch.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of messages passed to the logger.
+     */
+    public long getLoggedCount() {
+        return logged;
+    }
+
+    /**
+     * Number of messages currently waiting in the buffer.
+     */
+    public int getBufferedCount() {
+        return (int) (tail.get() - head);
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+}
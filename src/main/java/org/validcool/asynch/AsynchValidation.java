@@ -1,6 +1,9 @@
 package org.validcool.asynch;
 
+import org.validcool.FailureMode;
+import org.validcool.ValidationResult;
 import org.validcool.Validations;
+import org.validcool.ValidcoolSettings;
 import org.validcool.Validator;
 
 import java.util.concurrent.CompletableFuture;
@@ -15,15 +18,20 @@ public class AsynchValidation<E> {
     private String propertyName;
     private E actual;
     private Validator<E> validator;
+    private ValidcoolSettings settings;
 
+    /**
+     * Captures the settings in effect for the creating thread, so the validation runs with them on any thread.
+     */
     public AsynchValidation(String propertyName, E actual, Validator<E> validator, ValidationHint hint) {
         this.propertyName = propertyName;
         this.actual = actual;
         this.validator = validator;
         this.hint = hint;
+        this.settings = Validations.validcoolConfig.current();
     }
 
-    public AsynchValidation whenValid(Runnable action) {
+    public AsynchValidation<E> whenValid(Runnable action) {
         action.run();
         return this;
     }
@@ -33,27 +41,29 @@ public class AsynchValidation<E> {
     }
 
     /**
-     * Validate synchronously.
+     * The settings captured when this validation was created, which it runs with.
+     */
+    public ValidcoolSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Validate synchronously. Failures are handled like by @see org.validcool.Validations validate(Object, Validator),
+     * so the RETURN failure mode throws like THROW.
      */
     public boolean validate() {
-        boolean isValid = validator.test(actual);
-        if(!isValid) {
-            String errorMessage;
-            if(propertyName != null) {
-                errorMessage = validator.createErrorMessage(propertyName);
-            } else {
-                errorMessage = validator.createErrorMessage(actual);
-            }
-            Validations.validcoolConfig.handle(errorMessage);
-        }
-        return isValid;
+        FailureMode mode = settings.getThrowingFailureMode();
+        ValidationResult result = propertyName != null
+                ? settings.validate(propertyName, actual, validator, mode)
+                : settings.validate(actual, validator, mode);
+        return result.isValid();
     }
 
     /**
-     * Validate on JVMs common ForkJoinPool.
+     * Validate on the executor configured for the hint of this validation.
      * @return a future on the validation process
      */
     public CompletableFuture<Boolean> run() {
-        return CompletableFuture.supplyAsync(this::validate);
+        return CompletableFuture.supplyAsync(this::validate, settings.getExecutor(hint));
     }
 }
@@ -0,0 +1,112 @@
+package org.validcool.asynch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs validation tasks and joins them, completing as soon as the first task fails. The remaining tasks are then
+ * cancelled, so they stop holding their resources once the overall result is known. Tasks not started yet never run.
+ * Running tasks are only interrupted when added as interruptible, which only tasks on executors owned by validcool
+ * should be: interrupting the threads of a shared pool, like the common ForkJoinPool, may leave a stray interrupt to
+ * the next unrelated task. Other tasks stop cooperatively by checking isCompleted between their validations.
+ */
+public class FailFastJoin {
+
+    private final List<ValidationTask> tasks = new ArrayList<>();
+    private final List<Executor> executors = new ArrayList<>();
+    private final CompletableFuture<Boolean> overall = new CompletableFuture<>();
+    private final AtomicInteger remaining = new AtomicInteger();
+
+    /**
+     * Adds a task whose thread is not interrupted, it is not executed before join is called.
+     * @param validation returns false or throws when the validation failed
+     */
+    public FailFastJoin add(Callable<Boolean> validation, Executor executor) {
+        return add(validation, executor, false);
+    }
+
+    /**
+     * Adds a task, it is not executed before join is called.
+     * @param validation returns false or throws when the validation failed
+     * @param interruptible whether the thread running the task is interrupted when it is cancelled
+     */
+    public FailFastJoin add(Callable<Boolean> validation, Executor executor, boolean interruptible) {
+        tasks.add(new ValidationTask(validation, interruptible));
+        executors.add(executor);
+        return this;
+    }
+
+    /**
+     * Executes all tasks and waits until all succeeded or the first failed.
+     * @return false iff a task failed by returning false
+     * @throws RuntimeException thrown by the first failing task
+     */
+    public boolean join() {
+        remaining.set(tasks.size());
+        if(tasks.isEmpty()) {
+            return true;
+        }
+        for(int i = 0; i < tasks.size(); i++) {
+            executors.get(i).execute(tasks.get(i));
+        }
+        try {
+            return overall.join();
+        } catch(CompletionException exception) {
+            Throwable cause = exception.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : exception;
+        }
+    }
+
+    /**
+     * Whether the join completed, because all tasks succeeded or one failed. Tasks running several validations check
+     * it to skip the remaining ones.
+     */
+    public boolean isCompleted() {
+        return overall.isDone();
+    }
+
+    private void fail(Throwable cause) {
+        boolean first = cause == null ? overall.complete(false) : overall.completeExceptionally(cause);
+        if(first) {
+            for(ValidationTask task : tasks) {
+                task.cancel(task.interruptible);
+            }
+        }
+    }
+
+    private final class ValidationTask extends FutureTask<Boolean> {
+
+        private final boolean interruptible;
+
+        ValidationTask(Callable<Boolean> validation, boolean interruptible) {
+            super(validation);
+            this.interruptible = interruptible;
+        }
+
+        protected @Override void done() {
+            if(isCancelled()) {
+                return;
+            }
+            try {
+                if(!get()) {
+                    fail(null);
+                } else if(remaining.decrementAndGet() == 0) {
+                    overall.complete(true);
+                }
+            } catch(ExecutionException e) {
+                fail(e.getCause());
+            } catch(InterruptedException e) {
+                // cannot happen, the task is done
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
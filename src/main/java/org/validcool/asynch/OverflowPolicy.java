@@ -0,0 +1,25 @@
+package org.validcool.asynch;
+
+/**
+ * Tells an @see org.validcool.asynch.AsynchErrorLogger what to do with error messages while its buffer is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Drops messages which do not fit into the buffer.
+     */
+    DROP,
+    /**
+     * Once the buffer is half full, keeps only one of every SAMPLE_RATE messages and drops the others, so a failure
+     * storm still leaves examples in the log. Messages which do not fit into the buffer are dropped.
+     */
+    SAMPLE,
+    /**
+     * Makes the validating thread wait until the buffer has room, so no message is lost.
+     */
+    BLOCK;
+
+    /**
+     * One of how many messages is kept by SAMPLE once the buffer is half full.
+     */
+    public static final int SAMPLE_RATE = 16;
+}
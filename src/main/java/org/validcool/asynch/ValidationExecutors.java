@@ -0,0 +1,68 @@
+package org.validcool.asynch;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factories for the executors running asynchronous validations.
+ */
+public class ValidationExecutors {
+
+    /**
+     * Size of the dedicated IO pool, used when the runtime does not support virtual threads.
+     */
+    public static final int IO_POOL_SIZE = Math.max(8, 4 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Creates an executor for validations hinted with IoOperation, so blocking validations never occupy the threads
+     * of the JVMs common ForkJoinPool. It starts one virtual thread per task when the runtime supports them
+     * (Java 21 upwards), otherwise it is a bounded pool of IO_POOL_SIZE daemon threads, which are stopped when idle.
+     */
+    public static ExecutorService newIoExecutor() {
+        ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+        if(virtualThreads != null) {
+            return virtualThreads;
+        }
+        return newBoundedPool("validcool-io", IO_POOL_SIZE);
+    }
+
+    /**
+     * Creates a pool of size daemon threads, which are stopped after a minute without tasks.
+     */
+    public static ExecutorService newBoundedPool(String threadNamePrefix, int size) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads(threadNamePrefix));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ThreadFactory daemonThreads(String threadNamePrefix) {
+        AtomicInteger count = new AtomicInteger();
+        return (Runnable task) -> {
+            Thread thread = new Thread(task, threadNamePrefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Looked up reflectively, as validcool is compiled for Java 8.
+     * @return null when the runtime has no (enabled) virtual threads
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch(ReflectiveOperationException | UnsupportedOperationException e) {
+            // virtual threads are missing, or a preview feature which is not enabled
+            return null;
+        }
+    }
+
+}
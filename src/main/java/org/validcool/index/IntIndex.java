@@ -0,0 +1,104 @@
+package org.validcool.index;
+
+/**
+ * Set of int values, indexed once on creation for constant time lookups without boxing.
+ */
+public abstract class IntIndex {
+
+    public abstract boolean contains(int actual);
+
+    /**
+     * Dense values are kept in a bitset over their range, sparse ones in an open addressing hash table.
+     */
+    public static IntIndex of(int... values) {
+        if(values.length == 0) {
+            return new IntIndex() {
+                public @Override boolean contains(int actual) {
+                    return false;
+                }
+            };
+        }
+        int min = values[0], max = values[0];
+        for(int value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        long range = (long) max - min + 1;
+        if(range <= Math.max(1024L, 16L * values.length)) {
+            return new BitSetIndex(values, min, (int) range);
+        }
+        return new HashIndex(values);
+    }
+
+    private static final class BitSetIndex extends IntIndex {
+
+        private final long[] words;
+        private final int min;
+        private final int range;
+
+        BitSetIndex(int[] values, int min, int range) {
+            this.words = new long[(range + 63) >>> 6];
+            this.min = min;
+            this.range = range;
+            for(int value : values) {
+                int bit = value - min;
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        public @Override boolean contains(int actual) {
+            // computed as long, so values below min become negative instead of wrapping around
+            long bit = (long) actual - min;
+            return bit >= 0 && bit < range && (words[(int) (bit >>> 6)] & (1L << bit)) != 0;
+        }
+    }
+
+    /**
+     * Linear probing hash table. Zero marks free slots, so whether zero is contained is stored separately.
+     */
+    private static final class HashIndex extends IntIndex {
+
+        private final int[] slots;
+        private final int mask;
+        private final boolean containsZero;
+
+        HashIndex(int[] values) {
+            int capacity = Integer.highestOneBit(Math.max(2, values.length) * 2 - 1) << 1;
+            this.slots = new int[capacity];
+            this.mask = capacity - 1;
+            boolean zero = false;
+            for(int value : values) {
+                if(value == 0) {
+                    zero = true;
+                    continue;
+                }
+                int slot = hash(value) & mask;
+                while(slots[slot] != 0 && slots[slot] != value) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = value;
+            }
+            this.containsZero = zero;
+        }
+
+        public @Override boolean contains(int actual) {
+            if(actual == 0) {
+                return containsZero;
+            }
+            int slot = hash(actual) & mask;
+            while(slots[slot] != 0) {
+                if(slots[slot] == actual) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int hash(int value) {
+            int h = value * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+}
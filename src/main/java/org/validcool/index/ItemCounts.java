@@ -0,0 +1,88 @@
+package org.validcool.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * Multiset of items, counting how often each item occurs. Occurrences are counted in mutable int cells, so counting
+ * does not box a new Integer per increment. Items are compared by equals and hashCode, null is a valid item.
+ */
+public final class ItemCounts {
+
+    private final Map<Object, int[]> counts;
+    private final int size;
+
+    private ItemCounts(Map<Object, int[]> counts, int size) {
+        this.counts = counts;
+        this.size = size;
+    }
+
+    public static ItemCounts of(Collection<?> items) {
+        Map<Object, int[]> counts = new HashMap<>();
+        for(Object item : items) {
+            increment(counts, item);
+        }
+        return new ItemCounts(counts, items.size());
+    }
+
+    /**
+     * Whether actual consists of the same items, each occurring equally often, independent from order.
+     * Collections of at least parallelThreshold items are counted in parallel, merging the counts of all splits.
+     */
+    public boolean sameCounts(Collection<?> actual, int parallelThreshold) {
+        if(actual.size() != size) {
+            return false;
+        }
+        if(actual.size() >= parallelThreshold) {
+            return equalCounts(countInParallel(actual));
+        }
+        Map<Object, int[]> actualCounts = new HashMap<>();
+        for(Object item : actual) {
+            int[] expected = counts.get(item);
+            // as both sizes are equal, no count exceeding its expected count means all counts are equal
+            if(expected == null || ++cell(actualCounts, item)[0] > expected[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean equalCounts(Map<Object, int[]> actualCounts) {
+        if(actualCounts.size() != counts.size()) {
+            return false;
+        }
+        for(Map.Entry<Object, int[]> entry : actualCounts.entrySet()) {
+            int[] expected = counts.get(entry.getKey());
+            if(expected == null || expected[0] != entry.getValue()[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<Object, int[]> countInParallel(Collection<?> actual) {
+        return actual.parallelStream().collect(Collector.of(
+                HashMap<Object, int[]>::new,
+                ItemCounts::increment,
+                (left, right) -> {
+                    right.forEach((item, count) -> cell(left, item)[0] += count[0]);
+                    return left;
+                }));
+    }
+
+    private static void increment(Map<Object, int[]> counts, Object item) {
+        cell(counts, item)[0]++;
+    }
+
+    private static int[] cell(Map<Object, int[]> counts, Object item) {
+        int[] count = counts.get(item);
+        if(count == null) {
+            count = new int[1];
+            counts.put(item, count);
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.validcool.index;
+
+/**
+ * Set of long values, indexed once on creation for constant time lookups without boxing.
+ */
+public abstract class LongIndex {
+
+    public abstract boolean contains(long actual);
+
+    /**
+     * Dense values are kept in a bitset over their range, sparse ones in an open addressing hash table.
+     */
+    public static LongIndex of(long... values) {
+        if(values.length == 0) {
+            return new LongIndex() {
+                public @Override boolean contains(long actual) {
+                    return false;
+                }
+            };
+        }
+        long min = values[0], max = values[0];
+        for(long value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        // max - min overflows for ranges wider than Long.MAX_VALUE, which then count as sparse
+        long range = max - min + 1;
+        if(range > 0 && range <= Math.max(1024L, 16L * values.length)) {
+            return new BitSetIndex(values, min, (int) range);
+        }
+        return new HashIndex(values);
+    }
+
+    private static final class BitSetIndex extends LongIndex {
+
+        private final long[] words;
+        private final long min;
+        private final long max;
+
+        BitSetIndex(long[] values, long min, int range) {
+            this.words = new long[(range + 63) >>> 6];
+            this.min = min;
+            this.max = min + range - 1;
+            for(long value : values) {
+                int bit = (int) (value - min);
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        public @Override boolean contains(long actual) {
+            if(actual < min || actual > max) {
+                return false;
+            }
+            int bit = (int) (actual - min);
+            return (words[bit >>> 6] & (1L << bit)) != 0;
+        }
+    }
+
+    /**
+     * Linear probing hash table. Zero marks free slots, so whether zero is contained is stored separately.
+     */
+    private static final class HashIndex extends LongIndex {
+
+        private final long[] slots;
+        private final int mask;
+        private final boolean containsZero;
+
+        HashIndex(long[] values) {
+            int capacity = Integer.highestOneBit(Math.max(2, values.length) * 2 - 1) << 1;
+            this.slots = new long[capacity];
+            this.mask = capacity - 1;
+            boolean zero = false;
+            for(long value : values) {
+                if(value == 0) {
+                    zero = true;
+                    continue;
+                }
+                int slot = hash(value) & mask;
+                while(slots[slot] != 0 && slots[slot] != value) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = value;
+            }
+            this.containsZero = zero;
+        }
+
+        public @Override boolean contains(long actual) {
+            if(actual == 0) {
+                return containsZero;
+            }
+            int slot = hash(actual) & mask;
+            while(slots[slot] != 0) {
+                if(slots[slot] == actual) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int hash(long value) {
+            long h = value * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+}
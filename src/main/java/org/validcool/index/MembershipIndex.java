@@ -0,0 +1,112 @@
+package org.validcool.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Answers whether a value is contained in a collection of items, which was indexed once on creation.
+ * Membership follows equals of the actual value, just like Collection.contains.
+ * @param <E> type of items
+ */
+public abstract class MembershipIndex<E> {
+
+    public abstract boolean contains(Object actual);
+
+    /**
+     * Indexes items for constant or logarithmic time lookups. Sets are used as they are, items of one Comparable
+     * class are kept in a sorted array, and all other items in a hash set.
+     */
+    public static <E> MembershipIndex<E> of(Collection<E> items) {
+        if(items instanceof Set) {
+            Set<E> set = (Set<E>) items;
+            return new MembershipIndex<E>() {
+                public @Override boolean contains(Object actual) {
+                    return set.contains(actual);
+                }
+            };
+        }
+        Class<?> comparableClass = commonComparableClass(items);
+        if(comparableClass != null) {
+            return new SortedArrayIndex<>(items, comparableClass);
+        }
+        Set<E> set = new HashSet<>(items);
+        return new MembershipIndex<E>() {
+            public @Override boolean contains(Object actual) {
+                return set.contains(actual);
+            }
+        };
+    }
+
+    /**
+     * @return the class of all non null items, iff it is Comparable and there is at least one item
+     */
+    private static Class<?> commonComparableClass(Collection<?> items) {
+        Class<?> common = null;
+        for(Object item : items) {
+            if(item == null) {
+                continue;
+            }
+            if(common == null) {
+                common = item.getClass();
+                if(!Comparable.class.isAssignableFrom(common)) {
+                    return null;
+                }
+            } else if(common != item.getClass()) {
+                return null;
+            }
+        }
+        return common;
+    }
+
+    /**
+     * Items of one Comparable class, sorted by their natural ordering and searched binary. As natural ordering may
+     * be inconsistent with equals, all items comparing equal to the actual value are checked with equals.
+     */
+    private static final class SortedArrayIndex<E> extends MembershipIndex<E> {
+
+        private final Object[] items;
+        private final Class<?> itemClass;
+        private final boolean containsNull;
+
+        SortedArrayIndex(Collection<E> items, Class<?> itemClass) {
+            this.items = items.stream().filter(item -> item != null).sorted().toArray();
+            this.itemClass = itemClass;
+            this.containsNull = items.size() > this.items.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        public @Override boolean contains(Object actual) {
+            if(actual == null) {
+                return containsNull;
+            }
+            if(actual.getClass() != itemClass) {
+                // equals across classes is rare, but has to be honored
+                for(Object item : items) {
+                    if(actual.equals(item)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            int index = Arrays.binarySearch(items, actual);
+            if(index < 0) {
+                return false;
+            }
+            Comparable<Object> comparable = (Comparable<Object>) actual;
+            for(int i = index; i >= 0 && comparable.compareTo(items[i]) == 0; i--) {
+                if(actual.equals(items[i])) {
+                    return true;
+                }
+            }
+            for(int i = index + 1; i < items.length && comparable.compareTo(items[i]) == 0; i++) {
+                if(actual.equals(items[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
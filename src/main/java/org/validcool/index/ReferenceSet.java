@@ -0,0 +1,76 @@
+package org.validcool.index;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reference items of a collection validator, indexed once on creation to intersect them with actual collections in
+ * linear time. Lookups probe from the smaller side: actual sets are probed with the reference items when there are
+ * fewer of those, otherwise the actual items are probed against the index.
+ */
+public final class ReferenceSet {
+
+    private final Set<Object> index;
+    private final Object[] items;
+
+    public ReferenceSet(Collection<?> items) {
+        this.index = new HashSet<>(items);
+        this.items = index.toArray();
+    }
+
+    /**
+     * Number of distinct reference items.
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Whether every reference item is contained in actual.
+     */
+    public boolean isContainedIn(Collection<?> actual) {
+        if(items.length == 0) {
+            return true;
+        }
+        if(actual instanceof Set && items.length <= actual.size()) {
+            for(Object item : items) {
+                if(!actual.contains(item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if(actual.size() < items.length) {
+            return false;
+        }
+        Set<Object> found = new HashSet<>();
+        for(Object item : actual) {
+            if(index.contains(item) && found.add(item) && found.size() == items.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether at least one reference item is contained in actual.
+     */
+    public boolean intersects(Collection<?> actual) {
+        if(actual instanceof Set && items.length < actual.size()) {
+            for(Object item : items) {
+                if(actual.contains(item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for(Object item : actual) {
+            if(index.contains(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
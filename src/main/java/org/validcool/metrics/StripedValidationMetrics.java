@@ -0,0 +1,50 @@
+package org.validcool.metrics;
+
+import org.validcool.Validator;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default metrics, keeping @see org.validcool.metrics.ValidatorStatistics per validator name. Validators are named by
+ * their unrendered error message pattern, so validators with equal patterns, like all those created by greaterThan,
+ * share their statistics, and composites by their validators, like all(a, b). Name validators with
+ * @see org.validcool.Validations named to tell them apart or to group them.
+ */
+public class StripedValidationMetrics implements ValidationMetrics {
+
+    private final ConcurrentHashMap<String, ValidatorStatistics> statistics = new ConcurrentHashMap<>();
+
+    public @Override void record(Validator<?> validator, boolean valid, long nanos) {
+        String name = validator.getName();
+        ValidatorStatistics validatorStatistics = statistics.get(name);
+        if(validatorStatistics == null) {
+            validatorStatistics = statistics.computeIfAbsent(name, ValidatorStatistics::new);
+        }
+        validatorStatistics.record(valid, nanos);
+    }
+
+    /**
+     * Statistics of the validators named name, null when none of them ran yet.
+     */
+    public ValidatorStatistics getStatistics(String name) {
+        return statistics.get(name);
+    }
+
+    /**
+     * Statistics of all validators which ran, sorted by name.
+     */
+    public Map<String, ValidatorStatistics> getStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(statistics));
+    }
+
+    /**
+     * Drops the statistics of all validators.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.validcool.metrics;
+
+import org.validcool.Validator;
+
+/**
+ * Receives one record per validation run through @see org.validcool.Validations validate or check, once it is set
+ * with @see org.validcool.ValidcoolConfiguration setMetrics. Implementations are called by all validating threads at
+ * once, so they must be thread safe and should not block. Composite validators are recorded as a whole, their
+ * children are not recorded on their own.
+ */
+public interface ValidationMetrics {
+
+    /**
+     * @param validator the validator which ran, identified by @see org.validcool.Validator getName
+     * @param valid whether the validation succeeded
+     * @param nanos time the validation took, not including error handling
+     */
+    void record(Validator<?> validator, boolean valid, long nanos);
+
+}
@@ -0,0 +1,115 @@
+package org.validcool.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call and failure counts and the latency histogram of the validators sharing one name. Every validation of any of
+ * those validators records into the same instance, so each counter and bucket is a LongAdder and the getters sum it
+ * up on every call. The histogram has one bucket per power of two nanoseconds: bucket 0 counts validations below 1ns,
+ * bucket b those taking from 2^(b-1) up to 2^b - 1 nanoseconds.
+ */
+public class ValidatorStatistics {
+
+    static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] latencies = new LongAdder[BUCKETS];
+
+    ValidatorStatistics(String name) {
+        this.name = name;
+        for(int i = 0; i < BUCKETS; i++) {
+            latencies[i] = new LongAdder();
+        }
+    }
+
+    void record(boolean valid, long nanos) {
+        calls.increment();
+        if(!valid) {
+            failures.increment();
+        }
+        long positive = Math.max(0, nanos);
+        totalNanos.add(positive);
+        latencies[BUCKETS - Long.numberOfLeadingZeros(positive)].increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Mean duration of a validation, 0 when there was no validation yet.
+     */
+    public double getMeanNanos() {
+        long callCount = getCallCount();
+        return callCount == 0 ? 0 : (double) getTotalNanos() / callCount;
+    }
+
+    /**
+     * Number of validations per latency bucket, @see org.validcool.metrics.ValidatorStatistics.
+     */
+    public long[] getLatencyHistogram() {
+        long[] histogram = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++) {
+            histogram[i] = latencies[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Upper bound in nanoseconds of the bucket holding the specified percentile of validations, so the result is at
+     * most twice the exact percentile.
+     * @param percentile between 0 and 100
+     */
+    public long getLatencyPercentile(double percentile) {
+        if(percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, but was " + percentile);
+        }
+        long[] histogram = getLatencyHistogram();
+        long count = 0;
+        for(long bucket : histogram) {
+            count += bucket;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if(seen >= rank && seen > 0) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        calls.reset();
+        failures.reset();
+        totalNanos.reset();
+        for(LongAdder latency : latencies) {
+            latency.reset();
+        }
+    }
+
+    public @Override String toString() {
+        return String.format("%s: calls=%d, failures=%d, mean=%.1fns, p99<=%dns",
+                name, getCallCount(), getFailureCount(), getMeanNanos(), getLatencyPercentile(99));
+    }
+
+}
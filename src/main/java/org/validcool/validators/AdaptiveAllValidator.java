@@ -0,0 +1,154 @@
+package org.validcool.validators;
+
+import org.validcool.ValidationResult;
+import org.validcool.Validator;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Succeeds when all validators succeed, like @see org.validcool.validators.AllValidator, but evaluates the
+ * validators in an order learned from sampled evaluations: the validator failing most often per unit of cost goes
+ * first. Results and error messages are the same as in declaration order: once a validator fails, the validators
+ * declared before it which were not evaluated yet are checked as well, and the first failing in declaration order
+ * is reported. Validators throwing when evaluated out of order, like a comparison guarded by a preceding null check,
+ * are evaluated again in declaration order.
+ */
+public class AdaptiveAllValidator<E> extends Validator<E> {
+
+    private final Validator<E>[] validators;
+    private final AdaptiveOrder order;
+
+    @SuppressWarnings("unchecked")
+    public AdaptiveAllValidator(Collection<Validator<E>> validators) {
+        super(null, (String) null);
+        this.validators = (Validator<E>[]) validators.toArray(new Validator<?>[validators.size()]);
+        this.order = new AdaptiveOrder(this.validators.length);
+    }
+
+    public @Override boolean test(E actual) {
+        if(order.sampleDue()) {
+            return sample(actual).isValid();
+        }
+        int[] children = order.snapshot().children;
+        try {
+            for(int i = 0; i < children.length; i++) {
+                if(!validators[children[i]].test(actual)) {
+                    return false;
+                }
+            }
+        } catch(RuntimeException e) {
+            return evaluateInDeclarationOrder(actual).isValid();
+        }
+        return true;
+    }
+
+    /**
+     * Fails with the result of the first failing validator in declaration order.
+     */
+    public @Override ValidationResult evaluate(E actual) {
+        if(order.sampleDue()) {
+            return sample(actual);
+        }
+        AdaptiveOrder.Snapshot snapshot = order.snapshot();
+        int[] children = snapshot.children;
+        for(int position = 0; position < children.length; position++) {
+            int child = children[position];
+            ValidationResult result;
+            try {
+                result = validators[child].evaluate(actual);
+            } catch(RuntimeException e) {
+                return evaluateInDeclarationOrder(actual);
+            }
+            if(!result.isValid()) {
+                return firstFailureDeclaredBefore(child, position, snapshot, result, actual);
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * All validators evaluated before position succeeded, so only the ones declared before child and evaluated after
+     * position can fail first in declaration order.
+     */
+    private ValidationResult firstFailureDeclaredBefore(int child, int position, AdaptiveOrder.Snapshot snapshot,
+                                                        ValidationResult failure, E actual) {
+        for(int i = 0; i < child; i++) {
+            if(snapshot.positions[i] > position) {
+                ValidationResult result = validators[i].evaluate(actual);
+                if(!result.isValid()) {
+                    return result;
+                }
+            }
+        }
+        return failure;
+    }
+
+    private ValidationResult evaluateInDeclarationOrder(E actual) {
+        for(int i = 0; i < validators.length; i++) {
+            ValidationResult result = validators[i].evaluate(actual);
+            if(!result.isValid()) {
+                return result;
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * Evaluates every validator, records their costs and failures, and returns the declaration order outcome.
+     */
+    private ValidationResult sample(E actual) {
+        ValidationResult[] results = new ValidationResult[validators.length];
+        RuntimeException[] exceptions = new RuntimeException[validators.length];
+        long[] nanos = new long[validators.length];
+        boolean[] failed = new boolean[validators.length];
+        for(int i = 0; i < validators.length; i++) {
+            long start = System.nanoTime();
+            try {
+                results[i] = validators[i].evaluate(actual);
+            } catch(RuntimeException e) {
+                exceptions[i] = e;
+            }
+            nanos[i] = System.nanoTime() - start;
+            failed[i] = exceptions[i] != null || !results[i].isValid();
+        }
+        order.record(nanos, failed);
+        for(int i = 0; i < validators.length; i++) {
+            if(exceptions[i] != null) {
+                throw exceptions[i];
+            }
+            if(!results[i].isValid()) {
+                return results[i];
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * Declaration indices of the validators in their current evaluation order.
+     */
+    public int[] getEvaluationOrder() {
+        return order.snapshot().children.clone();
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return evaluate(actual).createErrorMessage(String.valueOf(actual));
+    }
+
+    /**
+     * The messages of all validators joined by "or", since the failing one depends on the actual value. Evaluate the
+     * actual value to get the message of the failing validator only.
+     */
+    public @Override String createErrorMessage(String actualString) {
+        return errorMessagesOf(validators, actualString, " or ");
+    }
+
+    protected @Override String createName() {
+        return nameOf("adaptiveAll", validators);
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return propertyNamesOf(validators);
+    }
+
+}
@@ -0,0 +1,142 @@
+package org.validcool.validators;
+
+import org.validcool.ValidationResult;
+import org.validcool.Validator;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Succeeds when at least one validator succeeds, like @see org.validcool.validators.AnyValidator, but evaluates the
+ * validators in an order learned from sampled evaluations: the validator succeeding most often per unit of cost goes
+ * first. A failure always evaluates every validator, so its error message lists them in declaration order as before.
+ * Validators throwing when evaluated out of order are evaluated again in declaration order.
+ */
+public class AdaptiveAnyValidator<E> extends Validator<E> {
+
+    private final Validator<E>[] validators;
+    private final AdaptiveOrder order;
+
+    @SuppressWarnings("unchecked")
+    public AdaptiveAnyValidator(Collection<Validator<E>> validators) {
+        super(null, (String) null);
+        this.validators = (Validator<E>[]) validators.toArray(new Validator<?>[validators.size()]);
+        this.order = new AdaptiveOrder(this.validators.length);
+    }
+
+    public @Override boolean test(E actual) {
+        if(order.sampleDue()) {
+            return sample(actual).isValid();
+        }
+        int[] children = order.snapshot().children;
+        try {
+            for(int i = 0; i < children.length; i++) {
+                if(validators[children[i]].test(actual)) {
+                    return true;
+                }
+            }
+        } catch(RuntimeException e) {
+            return evaluateInDeclarationOrder(actual).isValid();
+        }
+        return false;
+    }
+
+    /**
+     * Fails with the results of all validators in declaration order, when none succeeded.
+     */
+    public @Override ValidationResult evaluate(E actual) {
+        if(order.sampleDue()) {
+            return sample(actual);
+        }
+        int[] children = order.snapshot().children;
+        ValidationResult[] results = null;
+        for(int i = 0; i < children.length; i++) {
+            int child = children[i];
+            ValidationResult result;
+            try {
+                result = validators[child].evaluate(actual);
+            } catch(RuntimeException e) {
+                return evaluateInDeclarationOrder(actual);
+            }
+            if(result.isValid()) {
+                return result;
+            }
+            // only allocated once a validator failed
+            if(results == null) {
+                results = new ValidationResult[validators.length];
+            }
+            results[child] = result;
+        }
+        return ValidationResult.anyOf(results == null ? new ValidationResult[0] : results);
+    }
+
+    private ValidationResult evaluateInDeclarationOrder(E actual) {
+        ValidationResult[] results = new ValidationResult[validators.length];
+        for(int i = 0; i < validators.length; i++) {
+            ValidationResult result = validators[i].evaluate(actual);
+            if(result.isValid()) {
+                return result;
+            }
+            results[i] = result;
+        }
+        return ValidationResult.anyOf(results);
+    }
+
+    /**
+     * Evaluates every validator, records their costs and successes, and returns the declaration order outcome.
+     */
+    private ValidationResult sample(E actual) {
+        ValidationResult[] results = new ValidationResult[validators.length];
+        RuntimeException[] exceptions = new RuntimeException[validators.length];
+        long[] nanos = new long[validators.length];
+        boolean[] succeeded = new boolean[validators.length];
+        for(int i = 0; i < validators.length; i++) {
+            long start = System.nanoTime();
+            try {
+                results[i] = validators[i].evaluate(actual);
+            } catch(RuntimeException e) {
+                exceptions[i] = e;
+            }
+            nanos[i] = System.nanoTime() - start;
+            succeeded[i] = exceptions[i] == null && results[i].isValid();
+        }
+        order.record(nanos, succeeded);
+        for(int i = 0; i < validators.length; i++) {
+            if(exceptions[i] != null) {
+                throw exceptions[i];
+            }
+            if(results[i].isValid()) {
+                return results[i];
+            }
+        }
+        return ValidationResult.anyOf(results);
+    }
+
+    /**
+     * Declaration indices of the validators in their current evaluation order.
+     */
+    public int[] getEvaluationOrder() {
+        return order.snapshot().children.clone();
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return evaluate(actual).createErrorMessage(String.valueOf(actual));
+    }
+
+    /**
+     * The messages of all validators, each followed by ";", like the failure of an evaluation.
+     */
+    public @Override String createErrorMessage(String actualString) {
+        String messages = errorMessagesOf(validators, actualString, ";");
+        return messages.isEmpty() ? messages : messages + ";";
+    }
+
+    protected @Override String createName() {
+        return nameOf("adaptiveAny", validators);
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return propertyNamesOf(validators);
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.validcool.validators;
+
+import java.util.Arrays;
+
+/**
+ * Evaluation order of the children of an adaptive composite. Every SAMPLE_INTERVAL calls one evaluation runs all
+ * children and measures how long each took and whether it decided the outcome on its own. Every REORDER_INTERVAL
+ * samples the children are sorted by decisions per nanosecond, so the child most likely to short-circuit per unit of
+ * cost goes first. Older samples are halved on each reordering, so the order follows changing input.
+ */
+final class AdaptiveOrder {
+
+    static final int SAMPLE_INTERVAL = 64;
+    static final int REORDER_INTERVAL = 16;
+
+    private final long[] nanos;
+    private final long[] decisions;
+    private long samples;
+    private int samplesSinceReorder;
+    // racy on purpose, a lost increment only delays the next sample
+    private int calls;
+    private volatile Snapshot snapshot;
+
+    AdaptiveOrder(int size) {
+        this.nanos = new long[size];
+        this.decisions = new long[size];
+        int[] declared = new int[size];
+        for(int i = 0; i < size; i++) {
+            declared[i] = i;
+        }
+        this.snapshot = new Snapshot(declared);
+    }
+
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Whether the current call should run all children and report them through record.
+     */
+    boolean sampleDue() {
+        return (++calls & (SAMPLE_INTERVAL - 1)) == 0;
+    }
+
+    /**
+     * @param sampleNanos time each child took, by declaration index
+     * @param decided whether each child would have decided the outcome alone, by declaration index
+     */
+    synchronized void record(long[] sampleNanos, boolean[] decided) {
+        for(int i = 0; i < nanos.length; i++) {
+            nanos[i] += sampleNanos[i];
+            if(decided[i]) {
+                decisions[i]++;
+            }
+        }
+        samples++;
+        if(++samplesSinceReorder == REORDER_INTERVAL) {
+            samplesSinceReorder = 0;
+            reorder();
+        }
+    }
+
+    private void reorder() {
+        double[] scores = new double[nanos.length];
+        Integer[] order = new Integer[nanos.length];
+        for(int i = 0; i < nanos.length; i++) {
+            // Laplace smoothing keeps never deciding children comparable by cost
+            double decisionRate = (decisions[i] + 1.0) / (samples + 2.0);
+            double cost = Math.max(1.0, (double) nanos[i] / samples);
+            scores[i] = decisionRate / cost;
+            order[i] = i;
+        }
+        // stable, so equally scored children keep their declaration order
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        int[] children = new int[order.length];
+        for(int i = 0; i < order.length; i++) {
+            children[i] = order[i];
+            nanos[i] /= 2;
+            decisions[i] /= 2;
+        }
+        samples /= 2;
+        snapshot = new Snapshot(children);
+    }
+
+    /**
+     * Immutable evaluation order, published as a whole so readers never see a half sorted order.
+     */
+    static final class Snapshot {
+
+        /**
+         * Declaration indices of the children in evaluation order.
+         */
+        final int[] children;
+        /**
+         * Evaluation position of each child, by declaration index.
+         */
+        final int[] positions;
+
+        Snapshot(int[] children) {
+            this.children = children;
+            this.positions = new int[children.length];
+            for(int position = 0; position < children.length; position++) {
+                positions[children[position]] = position;
+            }
+        }
+    }
+
+}
@@ -1,30 +1,85 @@
 package org.validcool.validators;
 
+import org.validcool.ValidationResult;
 import org.validcool.Validator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * Succeeds when all validators succeed. The validators are kept in a flat array and evaluated with an indexed loop,
+ * so a successful evaluation does not allocate.
+ */
 public class AllValidator<E> extends Validator<E> {
 
-    private Collection<Validator<E>> validators;
-    private Optional<Validator<E>> fail;
+    private final Validator<E>[] validators;
 
+    @SuppressWarnings("unchecked")
     public AllValidator(Collection<Validator<E>> validators) {
-        super(null, null);
-        this.validators = validators;
+        super(null, (String) null);
+        this.validators = (Validator<E>[]) validators.toArray(new Validator<?>[validators.size()]);
     }
 
     public @Override boolean test(E actual) {
-        fail = validators.stream().filter(v -> !v.test(actual)).findFirst();
-        return !fail.isPresent();
+        for(int i = 0; i < validators.length; i++) {
+            if(!validators[i].test(actual)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public @Override String createErrorMessage(String actualString) {
-        if(!fail.isPresent()) {
-            throw new UnsupportedOperationException("no error message present");
+    /**
+     * Fails with the result of the first failing validator.
+     */
+    public @Override ValidationResult evaluate(E actual) {
+        for(int i = 0; i < validators.length; i++) {
+            ValidationResult result = validators[i].evaluate(actual);
+            if(!result.isValid()) {
+                return result;
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * Chains the method handles of the validators, each one only running when the previous succeeded.
+     */
+    public @Override MethodHandle asMethodHandle() {
+        MethodHandle chain = CompiledValidator.ALWAYS_TRUE;
+        for(int i = validators.length - 1; i >= 0; i--) {
+            chain = MethodHandles.guardWithTest(validators[i].asMethodHandle(), chain, CompiledValidator.ALWAYS_FALSE);
         }
-        return fail.get().createErrorMessage(actualString);
+        return chain;
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return evaluate(actual).createErrorMessage(String.valueOf(actual));
+    }
+
+    /**
+     * The messages of all validators joined by "or", since the failing one depends on the actual value. Evaluate the
+     * actual value to get the message of the failing validator only.
+     */
+    public @Override String createErrorMessage(String actualString) {
+        return errorMessagesOf(validators, actualString, " or ");
+    }
+
+    protected @Override String createName() {
+        return nameOf("all", validators);
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return propertyNamesOf(validators);
+    }
+
+    public List<Validator<E>> getValidators() {
+        return Collections.unmodifiableList(Arrays.asList(validators));
     }
 
 }
@@ -1,26 +1,84 @@
 package org.validcool.validators;
 
+import org.validcool.ValidationResult;
 import org.validcool.Validator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.Set;
 
+/**
+ * Succeeds when at least one validator succeeds. The validators are kept in a flat array and evaluated with an
+ * indexed loop, so a successful test does not allocate.
+ */
 public class AnyValidator<E> extends Validator<E> {
 
-    private Collection<Validator<E>> validators;
+    private final Validator<E>[] validators;
 
+    @SuppressWarnings("unchecked")
     public AnyValidator(Collection<Validator<E>> validators) {
-        super(null, null);
-        this.validators = validators;
+        super(null, (String) null);
+        this.validators = (Validator<E>[]) validators.toArray(new Validator<?>[validators.size()]);
     }
 
     public @Override boolean test(E actual) {
-        return validators.stream().anyMatch(v -> v.test(actual));
+        for(int i = 0; i < validators.length; i++) {
+            if(validators[i].test(actual)) {
+                return true;
+            }
+        }
+        return false;
     }
 
+    /**
+     * Fails with the results of all validators, when none succeeded.
+     */
+    public @Override ValidationResult evaluate(E actual) {
+        ValidationResult[] results = null;
+        for(int i = 0; i < validators.length; i++) {
+            ValidationResult result = validators[i].evaluate(actual);
+            if(result.isValid()) {
+                return result;
+            }
+            // only allocated once a validator failed
+            if(results == null) {
+                results = new ValidationResult[validators.length];
+            }
+            results[i] = result;
+        }
+        return ValidationResult.anyOf(results == null ? new ValidationResult[0] : results);
+    }
+
+    /**
+     * Chains the method handles of the validators, each one only running when the previous failed.
+     */
+    public @Override MethodHandle asMethodHandle() {
+        MethodHandle chain = CompiledValidator.ALWAYS_FALSE;
+        for(int i = validators.length - 1; i >= 0; i--) {
+            chain = MethodHandles.guardWithTest(validators[i].asMethodHandle(), CompiledValidator.ALWAYS_TRUE, chain);
+        }
+        return chain;
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return evaluate(actual).createErrorMessage(String.valueOf(actual));
+    }
+
+    /**
+     * The messages of all validators, each followed by ";", like the failure of an evaluation.
+     */
     public @Override String createErrorMessage(String actualString) {
-        return validators.stream()
-                .map(v -> v.createErrorMessage(actualString))
-                .reduce("", (a,b) -> a + b + ";").trim();
+        String messages = errorMessagesOf(validators, actualString, ";");
+        return messages.isEmpty() ? messages : messages + ";";
+    }
+
+    protected @Override String createName() {
+        return nameOf("any", validators);
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return propertyNamesOf(validators);
     }
 
 }
@@ -0,0 +1,75 @@
+package org.validcool.validators;
+
+import org.validcool.ValidationResult;
+import org.validcool.Validator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Set;
+
+/**
+ * Validator tree compiled into a single method handle, @see org.validcool.Validator asMethodHandle. Instead of a
+ * chain of virtual test calls through every composite, the checks run as one tree of method handle combinators,
+ * whose bound validators and selectors are constants. Once the compiled validator is hot, the JVM specializes the
+ * method handle to these constants, so the JIT can inline the whole tree. Successful validations only run the
+ * compiled handle. Failures are evaluated again by the validator tree, so error messages stay the same.
+ */
+public class CompiledValidator<E> extends Validator<E> {
+
+    static final MethodHandle ALWAYS_TRUE =
+            MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class);
+    static final MethodHandle ALWAYS_FALSE =
+            MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class);
+
+    private final Validator<E> validator;
+    private final MethodHandle compiled;
+
+    public CompiledValidator(Validator<E> validator) {
+        super(null, validator.getErrorMessageTemplate());
+        this.validator = validator;
+        this.compiled = validator.asMethodHandle();
+    }
+
+    public @Override boolean test(E actual) {
+        try {
+            return (boolean) compiled.invokeExact((Object) actual);
+        } catch(RuntimeException | Error e) {
+            throw e;
+        } catch(Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    public @Override ValidationResult evaluate(E actual) {
+        return test(actual) ? ValidationResult.valid() : validator.evaluate(actual);
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return validator.createErrorMessage(actual);
+    }
+
+    public @Override String createErrorMessage(String actualString) {
+        return validator.createErrorMessage(actualString);
+    }
+
+    public @Override String getName() {
+        return validator.getName();
+    }
+
+    public @Override MethodHandle asMethodHandle() {
+        return compiled;
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return validator.getPropertyNames();
+    }
+
+    /**
+     * The compiled validator tree.
+     */
+    public Validator<E> getValidator() {
+        return validator;
+    }
+
+}
@@ -0,0 +1,309 @@
+package org.validcool.validators;
+
+import org.validcool.ValidationResult;
+import org.validcool.Validator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.validcool.Validations.validcoolConfig;
+
+/**
+ * Applies validator to each item of the actual collection and succeeds when the number of valid items lies within
+ * bounds, like every item or at least n items, @see org.validcool.CollectionValidations everyItem.
+ * Items are counted in iteration order and the validation stops as soon as the remaining items cannot change the
+ * outcome. Collections of at least the configured parallel threshold are split across the cores through their
+ * spliterator, and all splits stop once one of them decided the outcome.
+ * A failure reports the indices of the first offending items, at most REPORTED_INDICES, instead of one message per
+ * item: the invalid items, or the valid ones when there are too many of them.
+ */
+public class ItemsValidator<E, C extends Collection<? extends E>> extends Validator<C> {
+
+    /**
+     * Maximum number of offending item indices reported by a failure.
+     */
+    public static final int REPORTED_INDICES = 10;
+
+    /**
+     * Number of items a split validates between looking at the progress of the other splits.
+     */
+    static final int CHUNK_SIZE = 256;
+
+    private final Validator<E> validator;
+    private final int minValid, maxValid, maxInvalid;
+
+    /**
+     * @param minValid minimum number of valid items
+     * @param maxValid maximum number of valid items, Integer.MAX_VALUE for no maximum
+     * @param maxInvalid maximum number of invalid items, Integer.MAX_VALUE for no maximum
+     * @param description completes the error message "${actual} ...", like "does not have every item valid"
+     */
+    public ItemsValidator(Validator<E> validator, int minValid, int maxValid, int maxInvalid, String description) {
+        super(null, "${actual} " + description);
+        this.validator = validator;
+        this.minValid = minValid;
+        this.maxValid = maxValid;
+        this.maxInvalid = maxInvalid;
+    }
+
+    public @Override boolean test(C actual) {
+        return scan(actual, false).valid;
+    }
+
+    public @Override ValidationResult evaluate(C actual) {
+        Scan scan = scan(actual, true);
+        return scan.valid ? ValidationResult.valid() : new ItemsFailure<>(this, scan.offenders);
+    }
+
+    private Scan scan(C actual, boolean report) {
+        int size = actual.size();
+        Scan scan = new Scan(size, report);
+        if(size < validcoolConfig.getParallelThreshold()) {
+            scan.offenders = scan.run(actual.spliterator(), 0, false);
+        } else {
+            Spliterator<? extends E> items = actual.spliterator();
+            if(!items.hasCharacteristics(Spliterator.SUBSIZED)) {
+                // splits of unknown size have unknown offsets, so the items are copied into an array first
+                items = arraySpliterator(actual);
+            }
+            int leafSize = (int) Math.max(CHUNK_SIZE, size / (8L * ForkJoinPool.getCommonPoolParallelism()));
+            scan.offenders = new SplittingTask(scan, items, 0, leafSize).invoke();
+        }
+        scan.complete();
+        return scan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Spliterator<? extends E> arraySpliterator(C actual) {
+        return Arrays.spliterator((E[]) actual.toArray());
+    }
+
+    /**
+     * The text of the error message, followed by the name of the item validator.
+     */
+    protected @Override String createName() {
+        return getErrorMessageTemplate().getText() + ": " + validator.getName();
+    }
+
+    /**
+     * Whether an invalid item offends, otherwise a valid item offends, because there are too many valid items.
+     */
+    private boolean invalidOffends() {
+        return maxValid == Integer.MAX_VALUE;
+    }
+
+    /**
+     * State of one evaluation, shared by all its splits.
+     */
+    private final class Scan {
+
+        private final int size;
+        private final boolean report;
+        private final AtomicInteger validCount = new AtomicInteger();
+        private final AtomicInteger invalidCount = new AtomicInteger();
+        // index of the last reported offender known so far, items after it need not be looked at once decided
+        private final AtomicInteger lastReported = new AtomicInteger(Integer.MAX_VALUE);
+        private volatile boolean decidedValid, decidedInvalid;
+        boolean valid;
+        Offenders offenders;
+
+        Scan(int size, boolean report) {
+            this.size = size;
+            this.report = report;
+        }
+
+        /**
+         * Validates the items of a split, starting at index offset.
+         * @param shared whether other splits run concurrently, otherwise the counts are only published at the end
+         */
+        Offenders run(Spliterator<? extends E> items, int offset, boolean shared) {
+            Offenders offenders = new Offenders();
+            Cursor<E> cursor = new Cursor<>();
+            boolean invalidOffends = invalidOffends();
+            int valid = 0, invalid = 0, chunk = shared ? CHUNK_SIZE : 1, pending = 0;
+            for(int index = offset; !stopped(index, offenders) && items.tryAdvance(cursor); index++) {
+                boolean itemValid = validator.test(cursor.item);
+                if(itemValid) {
+                    valid++;
+                } else {
+                    invalid++;
+                }
+                if(report && itemValid != invalidOffends && offenders.size < REPORTED_INDICES) {
+                    offenders.add(index, cursor.item);
+                    if(offenders.size == REPORTED_INDICES) {
+                        lastReported.accumulateAndGet(index, Math::min);
+                    }
+                }
+                if(++pending == chunk) {
+                    pending = 0;
+                    if(shared) {
+                        decide(validCount.addAndGet(valid), invalidCount.addAndGet(invalid));
+                        valid = 0;
+                        invalid = 0;
+                    } else {
+                        decide(valid, invalid);
+                    }
+                }
+            }
+            if(shared) {
+                decide(validCount.addAndGet(valid), invalidCount.addAndGet(invalid));
+            } else {
+                validCount.set(valid);
+                invalidCount.set(invalid);
+            }
+            return offenders;
+        }
+
+        /**
+         * Decides the outcome from lower bounds of the valid and invalid counts, once the remaining items can no
+         * longer change it.
+         */
+        private void decide(int valid, int invalid) {
+            if(valid > maxValid || invalid > maxInvalid || invalid > size - minValid) {
+                decidedInvalid = true;
+                return;
+            }
+            int remaining = size - valid - invalid;
+            if(valid >= minValid && valid + remaining <= maxValid && invalid + remaining <= maxInvalid) {
+                decidedValid = true;
+            }
+        }
+
+        /**
+         * Whether the split can stop before the item at index. Once the outcome is invalid, it only goes on to find
+         * the first offending items, when reporting them.
+         */
+        private boolean stopped(int index, Offenders offenders) {
+            return decidedValid || (decidedInvalid
+                    && (!report || offenders.size == REPORTED_INDICES || index > lastReported.get()));
+        }
+
+        void complete() {
+            if(decidedValid || decidedInvalid) {
+                valid = decidedValid;
+            } else {
+                int validItems = validCount.get();
+                valid = validItems >= minValid && validItems <= maxValid && invalidCount.get() <= maxInvalid;
+            }
+        }
+    }
+
+    /**
+     * Validates a spliterator with exactly known sizes of its splits, splitting it until no longer than leafSize.
+     */
+    @SuppressWarnings("serial")
+    private final class SplittingTask extends RecursiveTask<Offenders> {
+
+        private final Scan scan;
+        private final Spliterator<? extends E> items;
+        private final int offset, leafSize;
+
+        SplittingTask(Scan scan, Spliterator<? extends E> items, int offset, int leafSize) {
+            this.scan = scan;
+            this.items = items;
+            this.offset = offset;
+            this.leafSize = leafSize;
+        }
+
+        protected @Override Offenders compute() {
+            Spliterator<? extends E> prefix;
+            if(items.estimateSize() <= leafSize || (prefix = items.trySplit()) == null) {
+                return scan.run(items, offset, true);
+            }
+            int prefixSize = (int) prefix.getExactSizeIfKnown();
+            SplittingTask suffix = new SplittingTask(scan, items, offset + prefixSize, leafSize);
+            suffix.fork();
+            Offenders offenders = new SplittingTask(scan, prefix, offset, leafSize).compute();
+            return offenders.append(suffix.join());
+        }
+    }
+
+    /**
+     * Receives the current item of a spliterator, so advancing it does not allocate.
+     */
+    private static final class Cursor<E> implements Consumer<E> {
+
+        E item;
+
+        public @Override void accept(E item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * First offending items of a split in ascending order of their indices, at most REPORTED_INDICES.
+     */
+    private static final class Offenders {
+
+        private final int[] indices = new int[REPORTED_INDICES];
+        private final Object[] items = new Object[REPORTED_INDICES];
+        private int size;
+
+        void add(int index, Object item) {
+            indices[size] = index;
+            items[size] = item;
+            size++;
+        }
+
+        /**
+         * Appends the offenders of other, which must all have greater indices.
+         */
+        Offenders append(Offenders other) {
+            for(int i = 0; i < other.size && size < REPORTED_INDICES; i++) {
+                add(other.indices[i], other.items[i]);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Failure of an items validator, listing the indices of the first offending items. When invalid items offend,
+     * the message ends with the error message of the first one.
+     */
+    public static final class ItemsFailure<E> extends ValidationResult {
+
+        private final ItemsValidator<E, ?> validator;
+        private final int[] indices;
+        private final Object[] items;
+
+        ItemsFailure(ItemsValidator<E, ?> validator, Offenders offenders) {
+            this.validator = validator;
+            this.indices = Arrays.copyOf(offenders.indices, offenders.size);
+            this.items = Arrays.copyOf(offenders.items, offenders.size);
+        }
+
+        public @Override boolean isValid() {
+            return false;
+        }
+
+        /**
+         * Indices of the first offending items in iteration order, at most REPORTED_INDICES.
+         */
+        public int[] getIndices() {
+            return indices.clone();
+        }
+
+        @SuppressWarnings("unchecked")
+        public @Override String createErrorMessage(String actualString) {
+            StringBuilder message = new StringBuilder(validator.createErrorMessage(actualString));
+            if(indices.length == 0) {
+                return message.toString();
+            }
+            boolean invalidOffends = validator.invalidOffends();
+            message.append(invalidOffends ? ", invalid at " : ", valid at ").append(Arrays.toString(indices));
+            if(invalidOffends) {
+                ValidationResult first = validator.validator.evaluate((E) items[0]);
+                if(!first.isValid()) {
+                    message.append(": ").append(first.createErrorMessage(actualString + "[" + indices[0] + "]"));
+                }
+            }
+            return message.toString();
+        }
+    }
+
+}
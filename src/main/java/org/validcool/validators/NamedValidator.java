@@ -0,0 +1,55 @@
+package org.validcool.validators;
+
+import org.validcool.ValidationResult;
+import org.validcool.Validator;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Set;
+
+/**
+ * Validator with an explicit name, which identifies it in validation metrics instead of its error message pattern.
+ * Validation and error messages are delegated to the named validator.
+ */
+public class NamedValidator<E> extends Validator<E> {
+
+    private final String name;
+    private final Validator<E> validator;
+
+    public NamedValidator(String name, Validator<E> validator) {
+        super(null, validator.getErrorMessageTemplate());
+        if(name == null) {
+            throw new IllegalArgumentException("validator name must not be null", new NullPointerException());
+        }
+        this.name = name;
+        this.validator = validator;
+    }
+
+    public @Override boolean test(E actual) {
+        return validator.test(actual);
+    }
+
+    public @Override ValidationResult evaluate(E actual) {
+        return validator.evaluate(actual);
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return validator.createErrorMessage(actual);
+    }
+
+    public @Override String createErrorMessage(String actualString) {
+        return validator.createErrorMessage(actualString);
+    }
+
+    public @Override MethodHandle asMethodHandle() {
+        return validator.asMethodHandle();
+    }
+
+    public @Override String getName() {
+        return name;
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return validator.getPropertyNames();
+    }
+
+}
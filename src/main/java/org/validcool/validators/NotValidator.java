@@ -0,0 +1,34 @@
+package org.validcool.validators;
+
+import org.validcool.Validator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+/**
+ * Succeeds when validator fails. The error message is the one of validator with "not " removed.
+ */
+public class NotValidator<E> extends Validator<E> {
+
+    private final Validator<E> validator;
+
+    public NotValidator(Validator<E> validator) {
+        super(val -> !validator.test(val), validator.getErrorMessageTemplate().replaceInLiterals("not ", ""));
+        this.validator = validator;
+    }
+
+    protected @Override String createName() {
+        return nameOf("not", validator);
+    }
+
+    public @Override MethodHandle asMethodHandle() {
+        return MethodHandles.guardWithTest(validator.asMethodHandle(),
+                CompiledValidator.ALWAYS_FALSE, CompiledValidator.ALWAYS_TRUE);
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return validator.getPropertyNames();
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.validcool.validators;
+
+import org.validcool.ValidationResult;
+import org.validcool.Validator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Succeeds when the actual value is null, otherwise validates it with validator. Lets validators that do not accept
+ * null, like most string and number validators, apply to optional properties.
+ */
+public class NullableValidator<E> extends Validator<E> {
+
+    private static final MethodHandle IS_NULL;
+
+    static {
+        try {
+            IS_NULL = MethodHandles.publicLookup().findStatic(Objects.class, "isNull",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch(ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Validator<E> validator;
+
+    public NullableValidator(Validator<E> validator) {
+        super(null, validator.getErrorMessageTemplate());
+        this.validator = validator;
+    }
+
+    public @Override boolean test(E actual) {
+        return actual == null || validator.test(actual);
+    }
+
+    public @Override ValidationResult evaluate(E actual) {
+        return actual == null ? ValidationResult.valid() : validator.evaluate(actual);
+    }
+
+    public @Override String createErrorMessage(E actual) {
+        return validator.createErrorMessage(actual);
+    }
+
+    public @Override String createErrorMessage(String actualString) {
+        return validator.createErrorMessage(actualString);
+    }
+
+    public @Override String getName() {
+        return validator.getName();
+    }
+
+    public @Override MethodHandle asMethodHandle() {
+        return MethodHandles.guardWithTest(IS_NULL, CompiledValidator.ALWAYS_TRUE, validator.asMethodHandle());
+    }
+
+    public @Override Set<String> getPropertyNames() {
+        return validator.getPropertyNames();
+    }
+
+}
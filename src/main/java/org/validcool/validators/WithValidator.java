@@ -1,44 +1,124 @@
 package org.validcool.validators;
 
+import org.validcool.ValidationResult;
 import org.validcool.Validator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collections;
+import java.util.Set;
 import java.util.function.Function;
 
 public class WithValidator<E, S> extends Validator<E> {
 
-    private Function<E, S> selector;
-    private Validator<S> validator;
-    private S selection;
-    private String propertyName;
+    private static final MethodHandle APPLY;
+
+    static {
+        try {
+            APPLY = MethodHandles.publicLookup().findVirtual(Function.class, "apply",
+                    MethodType.methodType(Object.class, Object.class));
+        } catch(ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Function<E, S> selector;
+    private final Validator<S> validator;
+    private final String propertyName;
+    private final MethodHandle getter;
 
     public WithValidator(Function<E, S> selector, Validator<S> validator) {
-        super(null, validator.getErrorMessagePattern());
+        this(null, selector, validator);
+    }
+
+    public WithValidator(String propertyName, Function<E, S> selector, Validator<S> validator) {
+        this(propertyName, selector, null, validator);
+    }
+
+    /**
+     * Selects the property through getter, so a compiled validator calls the getter directly instead of through a
+     * function, @see org.validcool.Validator asMethodHandle.
+     * @param getter method handle of type (Object)Object, returning the property of the actual value
+     */
+    @SuppressWarnings("unchecked")
+    public WithValidator(String propertyName, MethodHandle getter, Validator<S> validator) {
+        this(propertyName, (E actual) -> {
+            try {
+                return (S) getter.invokeExact((Object) actual);
+            } catch(RuntimeException | Error e) {
+                throw e;
+            } catch(Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }, getter, validator);
+    }
+
+    private WithValidator(String propertyName, Function<E, S> selector, MethodHandle getter, Validator<S> validator) {
+        super(null, validator.getErrorMessageTemplate());
+        this.propertyName = propertyName;
         this.selector = selector;
+        this.getter = getter;
         this.validator = validator;
     }
 
     public @Override boolean test(E actual) {
-        this.selection = selector.apply(actual);
-        return validator.test(selection);
+        return validator.test(selector.apply(actual));
     }
 
-    public WithValidator(String propertyName, Function<E, S> selector, Validator<S> validator) {
-        this(selector, validator);
-        this.propertyName = propertyName;
+    /**
+     * Fails with the result of the validator on the selected value, described by the property name or, when
+     * unnamed, by the selected value itself.
+     */
+    public @Override ValidationResult evaluate(E actual) {
+        S selection = selector.apply(actual);
+        ValidationResult result = validator.evaluate(selection);
+        if(result.isValid()) {
+            return result;
+        }
+        return ValidationResult.ofProperty(propertyName, selection, result);
     }
 
     public @Override String createErrorMessage(E actual) {
-        String selectorString = propertyName != null ? propertyName : String.valueOf(selection);
-        return super.createErrorMessage(String.format("%s.%s", String.valueOf(actual), selectorString));
+        return evaluate(actual).createErrorMessage(String.valueOf(actual));
     }
 
+    /**
+     * Describes the property by its name. An unnamed selection depends on the actual value, so it is described by
+     * actualString itself. Evaluate the actual value to describe it by the selected value.
+     */
     public @Override String createErrorMessage(String actualString) {
-        if(propertyName != null) {
-            actualString += "." + propertyName;
-        } else {
-            actualString += "." + String.valueOf(selection);
+        if(propertyName == null) {
+            return validator.createErrorMessage(actualString);
+        }
+        return validator.createErrorMessage(actualString + "." + propertyName);
+    }
+
+    protected @Override String createName() {
+        if(propertyName == null) {
+            return nameOf("with", validator);
         }
-        return super.createErrorMessage(actualString);
+        return "with(" + propertyName + ", " + validator.getName() + ")";
+    }
+
+    /**
+     * Method handle of the validator, applied to the value selected from the actual value.
+     */
+    public @Override MethodHandle asMethodHandle() {
+        MethodHandle select = getter != null ? getter : APPLY.bindTo(selector);
+        return MethodHandles.filterArguments(validator.asMethodHandle(), 0, select);
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * The property name, or null for an unnamed selection, which may read anything of the actual value.
+     */
+    public @Override Set<String> getPropertyNames() {
+        return propertyName == null ? null : Collections.singleton(propertyName);
     }
 
 }
@@ -0,0 +1,130 @@
+package org.validcool;
+
+import org.junit.Test;
+import org.validcool.annotations.Between;
+import org.validcool.annotations.GreaterThan;
+import org.validcool.annotations.HasLength;
+import org.validcool.annotations.Matches;
+import org.validcool.annotations.MultipleOf;
+import org.validcool.annotations.NotEmpty;
+import org.validcool.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.Validations.*;
+
+public class AnnotatedValidating extends ValidationErrorLogging {
+
+    static class Person {
+
+        @NotEmpty
+        private final String name;
+        @Between(min = 0, max = 150)
+        private final int age;
+        @Matches("[^@]+@[^@]+")
+        private final String email;
+
+        Person(String name, int age, String email) {
+            this.name = name;
+            this.age = age;
+            this.email = email;
+        }
+
+        public @Override String toString() {
+            return "person";
+        }
+    }
+
+    static class Customer extends Person {
+
+        @NotEmpty
+        private final List<String> orders;
+        private final long discount;
+
+        Customer(String name, int age, String email, List<String> orders, long discount) {
+            super(name, age, email);
+            this.orders = orders;
+            this.discount = discount;
+        }
+
+        @GreaterThan(-1) @MultipleOf(5)
+        long getDiscount() {
+            return discount;
+        }
+    }
+
+    static class Country {
+
+        @NotNull @HasLength(2)
+        String code;
+    }
+
+    static class Misannotated {
+
+        @GreaterThan(0)
+        String name;
+    }
+
+    @Test
+    public void annotated_win() {
+        validateAnnotated(new Person("Alan", 41, null));
+        validateAnnotated(new Person("Alan", 41, "alan@example.org"));
+        validateAnnotated(new Customer("Ada", 36, null, Arrays.asList("tea"), 15));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void annotated_fail() {
+        validateAnnotated(new Person("Alan", 151, null));
+    }
+
+    @Test
+    public void annotated_errorMessages() {
+        assertThat(message(new Person("", 41, null)), equalTo("person.name is null or empty string"));
+        assertThat(message(new Person(null, 41, null)), equalTo("person.name is null or empty string"));
+        assertThat(message(new Person("Alan", -1, null)), equalTo("person.age is not between 0 and 150"));
+        assertThat(message(new Person("Alan", 41, "alan")),
+                equalTo("person.email does not match \"[^@]+@[^@]+\""));
+    }
+
+    @Test
+    public void annotatedSubclass_validatesSuperclassFirst() {
+        assertThat(message(new Customer("", 36, null, null, 15)), equalTo("person.name is null or empty string"));
+        assertThat(message(new Customer("Ada", 36, null, null, 15)), equalTo("person.orders is null"));
+        assertThat(message(new Customer("Ada", 36, null, Collections.emptyList(), 15)),
+                equalTo("person.orders has a size of 0"));
+        assertThat(message(new Customer("Ada", 36, null, Arrays.asList("tea"), 12)),
+                equalTo("person.discount is not a multiple of 5"));
+    }
+
+    @Test
+    public void annotatedNotNull_fail() {
+        Country country = new Country();
+        assertThat(annotated(Country.class).test(country), equalTo(false));
+        country.code = "de";
+        assertThat(annotated(Country.class).test(country), equalTo(true));
+        country.code = "deu";
+        assertThat(annotated(Country.class).test(country), equalTo(false));
+    }
+
+    @Test
+    public void annotated_cachesPlan() {
+        assertThat(annotated(Person.class), sameInstance(annotated(Person.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void annotatedUnsupportedType_fail() {
+        annotated(Misannotated.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String message(Person person) {
+        ValidationResult result = annotated((Class<Person>) person.getClass()).evaluate(person);
+        return result.isValid() ? "valid" : result.createErrorMessage("person");
+    }
+
+}
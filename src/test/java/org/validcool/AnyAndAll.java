@@ -1,8 +1,13 @@
 package org.validcool;
 
 import org.junit.Test;
+import org.validcool.validators.AdaptiveAllValidator;
+import org.validcool.validators.AdaptiveAnyValidator;
 
+import java.awt.Point;
+import java.lang.management.ManagementFactory;
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -36,12 +41,115 @@ public class AnyAndAll {
         validate(someString, any(isNullOrEmptyString(), hasLength(5)));
     }
 
+    @Test
+    public void anyOfAllAndWith_rendersMessagesOfAllValidators() {
+        Validator<Integer> validator = any(all(greaterThan(5), lowerThan(10)),
+                with(val -> val % 7, Validations.equalTo(0)));
+        assertThat(validator.createErrorMessage("size"),
+                equalTo("(size is not greater than 5 or size is not lower than 10);size is not equal to 0;"));
+        Validator<Integer> adaptive = adaptiveAll(greaterThan(5), with("bits", Integer::bitCount, lowerThan(3)));
+        assertThat(adaptive.createErrorMessage("size"),
+                equalTo("size is not greater than 5 or size.bits is not lower than 3"));
+    }
+
     @Test
     public void anyAndAll_win() {
         String someString = "hello";
         validate(someString, any(isNullOrEmptyString(), all(hasLength(5), matches("[a-z]+"))));
     }
 
+    @Test
+    public void sharedValidator_reportsOwnFailure() throws InterruptedException {
+        Validator<Point> validator = all(with("x", Point::getX, lowerThan(100.0)), with(Point::getY, lowerThan(100.0)));
+        AtomicInteger mismatches = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for(int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for(int i = 0; i < 2000; i++) {
+                    Point point = i % 2 == 0 ? new Point(200, offset) : new Point(offset, 200);
+                    String expected = i % 2 == 0
+                            ? "point.x is not lower than 100.0"
+                            : "point.200.0 is not lower than 100.0";
+                    if(!expected.equals(validator.evaluate(point).createErrorMessage("point"))) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(mismatches.get(), equalTo(0));
+    }
+
+    @Test
+    public void all_successfulTestAllocatesNothing() {
+        Validator<String> validator = all(not(nullValue()), hasLength(5), startsWith("he"), endsWith("lo"));
+        assertThat(allocatedBytesPerTest(validator, "hello"), equalTo(0L));
+    }
+
+    @Test
+    public void any_successfulTestAllocatesNothing() {
+        Validator<String> validator = any(nullValue(), hasLength(3), startsWith("ha"), endsWith("lo"));
+        assertThat(allocatedBytesPerTest(validator, "hello"), equalTo(0L));
+    }
+
+    @Test
+    public void adaptiveAll_evaluatesCheapFailingValidatorFirst() {
+        AdaptiveAllValidator<String> validator = adaptiveAll(matches("(a|b|c)*+[a-z]{2,}+"), hasLength(5));
+        for(int i = 0; i < 5000; i++) {
+            check("abcabcabcabcabcabc", validator);
+        }
+        assertThat(validator.getEvaluationOrder(), equalTo(new int[] { 1, 0 }));
+    }
+
+    @Test
+    public void adaptiveAny_evaluatesCheapSucceedingValidatorFirst() {
+        AdaptiveAnyValidator<String> validator = adaptiveAny(matches("(a|b|c)*+[0-9]++"), not(nullValue()));
+        for(int i = 0; i < 5000; i++) {
+            check("abcabcabcabcabcabc", validator);
+        }
+        assertThat(validator.getEvaluationOrder(), equalTo(new int[] { 1, 0 }));
+    }
+
+    @Test
+    public void adaptive_reportsDeclarationOrderFailures() {
+        Validator<String> all = all(not(nullValue()), matches("[a-z]+"), hasLength(5), startsWith("he"));
+        Validator<String> adaptiveAll = adaptiveAll(not(nullValue()), matches("[a-z]+"), hasLength(5), startsWith("he"));
+        Validator<String> any = any(nullValue(), matches("[0-9]+"), hasLength(5), startsWith("he"));
+        Validator<String> adaptiveAny = adaptiveAny(nullValue(), matches("[0-9]+"), hasLength(5), startsWith("he"));
+        String[] actuals = { null, "hello", "Hello", "hey", "HEY", "12", "world", "" };
+        for(int i = 0; i < 20_000; i++) {
+            String actual = actuals[i % actuals.length];
+            assertThat(message(adaptiveAll, actual), equalTo(message(all, actual)));
+            assertThat(message(adaptiveAny, actual), equalTo(message(any, actual)));
+        }
+    }
+
+    private String message(Validator<String> validator, String actual) {
+        ValidationResult result = validator.evaluate(actual);
+        return result.isValid() ? "valid" : result.createErrorMessage(String.valueOf(actual));
+    }
+
+    private long allocatedBytesPerTest(Validator<String> validator, String actual) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        boolean valid = true;
+        // warm up, so the measured calls run compiled code
+        for(int i = 0; i < 200_000; i++) {
+            valid &= validator.test(actual);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < 100_000; i++) {
+            valid &= validator.test(actual);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertThat("validator should succeed", valid);
+        return allocated / 100_000;
+    }
+
     private void testErrorMessage(Runnable validationAction, String expectedErrorMessage) {
         try {
             validationAction.run();
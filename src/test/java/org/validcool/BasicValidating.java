@@ -3,6 +3,7 @@ package org.validcool;
 import org.junit.Test;
 
 import java.awt.*;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import static java.util.Arrays.asList;
@@ -52,6 +53,58 @@ public class BasicValidating {
         validate(wolverine, all(not(nullValue()), in(asList(xMen))));
     }
 
+    @Test
+    public void in_win() {
+        validate(null, in(asList("a", null)));
+        validate(new BigDecimal("1.00"), in(asList(new BigDecimal("1.0"), new BigDecimal("1.00"))));
+        validate(new Point(1, 2), in(asList(new Point(2, 1), new Point(1, 2))));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void in_comparable_fail() {
+        validate(new BigDecimal("1"), in(asList(new BigDecimal("1.0"), new BigDecimal("1.00"))));
+    }
+
+    @Test
+    public void inInts_win() {
+        validate(7, inInts(1, 7, 42));
+        validate(-2_000_000_000, inInts(0, -2_000_000_000, 2_000_000_000));
+        validate(0, inInts(0, -2_000_000_000, 2_000_000_000));
+        validate(3_000_000_000L, inLongs(Long.MIN_VALUE, 3_000_000_000L, Long.MAX_VALUE));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void inInts_dense_fail() {
+        validate(5, inInts(1, 2, 3, 4, 6));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void inInts_sparse_fail() {
+        validate(5, inInts(-2_000_000_000, 2_000_000_000));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void inLongs_fail() {
+        validate(0L, inLongs(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void inInts_boxed_win() {
+        Validator<Integer> validator = inInts(1, 7, 42);
+        validate(Integer.valueOf(42), validator);
+        validate("count", 7, validator);
+    }
+
+    @Test(expected = ValidationException.class)
+    public void inInts_null_fail() {
+        validate((Integer) null, inInts(1, 7, 42));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void inLongs_null_fail() {
+        validate("id", (Long) null, inLongs(1L, 7L));
+    }
+
     @Test(expected = ValidationException.class)
     public void andValidators_fail() {
         validate("", all(not(nullValue()), equalTo("hello world")));
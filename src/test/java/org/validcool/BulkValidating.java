@@ -0,0 +1,58 @@
+package org.validcool;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.BulkValidations.validateEach;
+import static org.validcool.Validations.*;
+
+public class BulkValidating {
+
+    @Test
+    public void validateEach_win() {
+        BulkValidationResult result = validateEach(new Integer[] { 1, 2, 3 }, greaterThan(0));
+        assertThat("result should be valid", result.isValid());
+        assertThat(result.getCheckedCount(), equalTo(3));
+    }
+
+    @Test
+    public void validateEach_small_fail() {
+        BulkValidationResult result = validateEach(new String[] { "a", null, "c", null }, not(nullValue()));
+        assertThat(result.getFailingIndices(), equalTo(new int[] { 1, 3 }));
+        assertThat(result.getErrorMessage(0), equalTo("null is null"));
+    }
+
+    @Test
+    public void validateEach_randomAccess_fail() {
+        List<Integer> values = new ArrayList<>();
+        IntStream.range(0, 100_000).forEach(values::add);
+        assertFailuresAtMultiplesOf1000(validateEach(values, is("not dividable by 1000", val -> val % 1000 != 0)));
+    }
+
+    @Test
+    public void validateEach_linked_fail() {
+        List<Integer> values = new LinkedList<>();
+        IntStream.range(0, 100_000).forEach(values::add);
+        assertFailuresAtMultiplesOf1000(validateEach(values, is("not dividable by 1000", val -> val % 1000 != 0)));
+    }
+
+    @Test
+    public void validateEach_unsized_fail() {
+        BulkValidationResult result = validateEach(IntStream.range(0, 100_000).filter(i -> true).boxed().spliterator(),
+                is("not dividable by 1000", val -> val % 1000 != 0));
+        assertFailuresAtMultiplesOf1000(result);
+    }
+
+    private void assertFailuresAtMultiplesOf1000(BulkValidationResult result) {
+        assertThat(result.getCheckedCount(), equalTo(100_000));
+        assertThat(result.getFailingIndices(), equalTo(IntStream.range(0, 100).map(i -> i * 1000).toArray()));
+        assertThat(result.getErrorMessages().get(42), equalTo("42000 is dividable by 1000"));
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.validcool;
+
+import org.junit.Test;
+
+import java.awt.Point;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.Validations.*;
+
+public class CompilingValidators {
+
+    private final Validator<Point> tree = all(
+            not(nullValue()),
+            with("x", (Point point) -> point.x, all(greaterThan(0), lowerThan(100))),
+            any(with("y", (Point point) -> point.y, Validations.equalTo(0)), with("y", (Point point) -> point.y, greaterThan(10))),
+            not(Validations.equalTo(new Point(50, 50))));
+
+    @Test
+    public void compiledValidator_performsSameChecks() {
+        Validator<Point> compiled = compile(tree);
+        for(int x = -5; x < 110; x += 5) {
+            for(int y = -5; y < 60; y += 5) {
+                Point point = new Point(x, y);
+                assertThat(compiled.test(point), equalTo(tree.test(point)));
+                assertThat(message(compiled, point), equalTo(message(tree, point)));
+            }
+        }
+    }
+
+    @Test
+    public void compiledValidator_keepsErrorMessages() {
+        Validator<Point> compiled = compile(tree);
+        assertThat(message(compiled, null), equalTo("point is null"));
+        assertThat(message(compiled, new Point(0, 20)), equalTo("point.x is not greater than 0"));
+        assertThat(message(compiled, new Point(50, 5)),
+                equalTo("point.y is not equal to 0;point.y is not greater than 10;"));
+        assertThat(message(compiled, new Point(50, 50)),
+                equalTo("point is equal to java.awt.Point[x=50,y=50]"));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void compiledValidator_validates() {
+        validate("point", new Point(200, 0), compile(tree));
+    }
+
+    private String message(Validator<Point> validator, Point point) {
+        ValidationResult result = validator.evaluate(point);
+        return result.isValid() ? "valid" : result.createErrorMessage("point");
+    }
+
+}
@@ -3,7 +3,9 @@ package org.validcool;
 import org.junit.Test;
 
 import java.awt.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Arrays.asList;
 import static org.validcool.StringValidations.isNullOrEmptyString;
 import static org.validcool.StringValidations.hasLength;
 
@@ -39,6 +41,23 @@ public class ErrorMessages extends ValidationErrorLogging {
                 "4 is not greater than 5;4 is not lower than 3;");
     }
 
+    @Test
+    public void messageRendersExpectedLazily() {
+        AtomicInteger renderings = new AtomicInteger();
+        Validator<Integer> validator = new Validator<>(val -> val > 2, "${actual} is not greater than ${expected}",
+                () -> renderings.incrementAndGet() > 0 ? 2 : 0);
+        validate(3, validator);
+        assertThat(renderings.get(), equalTo(0));
+        testErrorMessage(() -> validate(1, validator), "1 is not greater than 2");
+        testErrorMessage(() -> validate(0, validator), "0 is not greater than 2");
+        assertThat(renderings.get(), equalTo(1));
+    }
+
+    @Test
+    public void messageOnNegationKeepsExpected() {
+        testErrorMessage(() -> validate("b", not(in(asList("not a", "b")))), "b is in [not a, b]");
+    }
+
     @Test
     public void messageWithProperty() {
         Point point = new Point(1, 3);
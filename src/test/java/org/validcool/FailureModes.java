@@ -0,0 +1,66 @@
+package org.validcool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.Validations.*;
+
+public class FailureModes extends ValidationErrorLogging {
+
+    @After
+    public void resetFailureMode() {
+        validcoolConfig.setFailureMode(FailureMode.THROW);
+    }
+
+    @Test
+    public void return_win() {
+        ValidationResult result = validate(12, greaterThan(10), FailureMode.RETURN);
+        assertThat("result should be valid", result.isValid());
+    }
+
+    @Test
+    public void return_fail() {
+        ValidationResult result = validate("age", 9, greaterThan(10), FailureMode.RETURN);
+        assertThat("result should be invalid", !result.isValid());
+        assertThat(result.getErrorMessage(), equalTo("age is not greater than 10"));
+    }
+
+    @Test
+    public void returnConfigured_fail() {
+        validcoolConfig.setFailureMode(FailureMode.RETURN);
+        ValidationResult result = validcoolConfig.current().validate(9, all(not(nullValue()), greaterThan(10)));
+        assertThat(result.getErrorMessage(), equalTo("9 is not greater than 10"));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void returnConfigured_voidValidateStillThrows() {
+        validcoolConfig.setFailureMode(FailureMode.RETURN);
+        validate(9, greaterThan(10));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void returnConfigured_voidValidateOfPrimitiveStillThrows() {
+        validcoolConfig.setFailureMode(FailureMode.RETURN);
+        validate("age", 9, NumberValidations.greaterThanInt(10));
+    }
+
+    @Test
+    public void throwStackless_fail() {
+        try {
+            validate(9, greaterThan(10), FailureMode.THROW_STACKLESS);
+            assertThat("should have thrown ValidationException", false);
+        } catch(ValidationException e) {
+            assertThat(e.getMessage(), equalTo("9 is not greater than 10"));
+            assertThat(e.getStackTrace().length, equalTo(0));
+        }
+    }
+
+    @Test(expected = ValidationException.class)
+    public void throwStacklessConfigured_fail() {
+        validcoolConfig.setFailureMode(FailureMode.THROW_STACKLESS);
+        validate(9, greaterThan(10));
+    }
+
+}
@@ -0,0 +1,118 @@
+package org.validcool;
+
+import org.junit.Test;
+import org.validcool.annotations.GreaterThan;
+import org.validcool.annotations.NotEmpty;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.StringValidations.isNullOrEmptyString;
+import static org.validcool.Validations.*;
+
+public class IncrementalValidating extends ValidationErrorLogging {
+
+    static class Booking {
+
+        private final AtomicInteger nameChecks = new AtomicInteger();
+        private final AtomicInteger periodChecks = new AtomicInteger();
+        private final IncrementalValidation<Booking> validation;
+
+        @NotEmpty
+        String name;
+        @GreaterThan(0)
+        int guests;
+        LocalDate from, to;
+
+        Booking(String name, int guests, LocalDate from, LocalDate to) {
+            this.name = name;
+            this.guests = guests;
+            this.from = from;
+            this.to = to;
+            validation = new IncrementalValidation<>("booking", this)
+                    .add(with("name", (Booking booking) -> booking.name, is("a checked name", value -> {
+                        nameChecks.incrementAndGet();
+                        return true;
+                    })))
+                    .add(annotated(Booking.class))
+                    .add(is("a period from before to", (Booking booking) -> {
+                        periodChecks.incrementAndGet();
+                        return booking.from.isBefore(booking.to);
+                    }), "from", "to");
+        }
+
+        void setName(String name) {
+            this.name = name;
+            validation.changed("name");
+        }
+
+        void setGuests(int guests) {
+            this.guests = guests;
+            validation.changed("guests");
+        }
+
+        void setTo(LocalDate to) {
+            this.to = to;
+            validation.changed("to");
+        }
+    }
+
+    private final LocalDate today = LocalDate.of(2024, 5, 1);
+
+    @Test
+    public void changed_rerunsDependentValidatorsOnly() {
+        Booking booking = new Booking("Ada", 2, today, today.plusDays(3));
+        assertThat("booking should be valid", booking.validation.isValid());
+        assertThat(booking.nameChecks.get(), equalTo(1));
+        assertThat(booking.periodChecks.get(), equalTo(1));
+        booking.setGuests(3);
+        booking.setGuests(4);
+        assertThat(booking.nameChecks.get(), equalTo(1));
+        assertThat(booking.periodChecks.get(), equalTo(1));
+        booking.setTo(today.plusDays(4));
+        assertThat(booking.nameChecks.get(), equalTo(1));
+        assertThat(booking.periodChecks.get(), equalTo(2));
+        booking.setName("Alan");
+        assertThat(booking.nameChecks.get(), equalTo(2));
+        assertThat(booking.periodChecks.get(), equalTo(2));
+    }
+
+    @Test
+    public void changed_keepsFailuresOfUnchangedProperties() {
+        Booking booking = new Booking("Ada", 2, today, today.plusDays(3));
+        booking.setGuests(0);
+        booking.setTo(today.minusDays(1));
+        assertThat("booking should be invalid", !booking.validation.isValid());
+        assertThat(booking.validation.getErrorMessages(), equalTo(Arrays.asList(
+                "booking.guests is not greater than 0", "booking is not a period from before to")));
+        booking.setGuests(1);
+        assertThat(booking.validation.getErrorMessages(),
+                equalTo(Collections.singletonList("booking is not a period from before to")));
+        booking.setTo(today.plusDays(1));
+        assertThat("booking should be valid", booking.validation.isValid());
+    }
+
+    @Test(expected = ValidationException.class)
+    public void validate_fail() {
+        Booking booking = new Booking("Ada", 2, today, today.plusDays(3));
+        booking.setName("");
+        booking.validation.validate();
+    }
+
+    @Test
+    public void validatorsReadingTheEntity_rerunOnEveryChange() {
+        AtomicInteger checks = new AtomicInteger();
+        Booking booking = new Booking("Ada", 2, today, today.plusDays(3));
+        IncrementalValidation<Booking> validation = new IncrementalValidation<>(booking)
+                .add(all(with("name", (Booking b) -> b.name, Validations.<String>not(isNullOrEmptyString())),
+                        is("counted", (Booking b) -> checks.incrementAndGet() > 0)));
+        validation.changed("guests");
+        validation.changed("name");
+        assertThat(checks.get(), equalTo(3));
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.validcool;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.Validations.*;
+
+public class MemoizedValidating extends ValidationErrorLogging {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final Validator<String> expensive = is("a known user", (String name) -> {
+        evaluations.incrementAndGet();
+        return name.startsWith("known");
+    });
+
+    @Test
+    public void memoized_evaluatesRepeatedValuesOnce() {
+        MemoizingValidator<String> validator = memoized(expensive, 100);
+        for(int i = 0; i < 10; i++) {
+            assertThat(check("known user", validator), equalTo(true));
+            assertThat(check(new String("unknown user"), validator), equalTo(false));
+        }
+        assertThat(evaluations.get(), equalTo(2));
+        assertThat(validator.getStatistics().getHitCount(), equalTo(18L));
+        assertThat(validator.getStatistics().getMissCount(), equalTo(2L));
+    }
+
+    @Test
+    public void memoized_keepsErrorMessages() {
+        MemoizingValidator<String> validator = memoized(expensive, 100);
+        for(int i = 0; i < 2; i++) {
+            try {
+                validate("name", "stranger", validator);
+                throw new AssertionError("validation should fail");
+            } catch(ValidationException e) {
+                assertThat(e.getMessage(), equalTo("name is not a known user"));
+            }
+        }
+    }
+
+    @Test
+    public void memoized_evictsLeastRecentlyUsed() {
+        MemoizingValidator<String> validator = memoized(expensive, 1);
+        check("known a", validator);
+        check("known b", validator);
+        check("known a", validator);
+        assertThat(evaluations.get(), equalTo(3));
+        assertThat(validator.size(), equalTo(1));
+        assertThat(validator.getStatistics().getEvictionCount(), equalTo(2L));
+    }
+
+    @Test
+    public void memoized_isBounded() {
+        MemoizingValidator<Integer> validator = memoized(greaterThan(0), 100);
+        for(int i = 0; i < 10_000; i++) {
+            check(i, validator);
+        }
+        assertThat(validator.size() <= 100, equalTo(true));
+    }
+
+    @Test
+    public void memoized_expiresAfterTimeToLive() throws InterruptedException {
+        MemoizingValidator<String> validator = memoized(expensive, 100, Duration.ofMillis(20));
+        check("known user", validator);
+        check("known user", validator);
+        Thread.sleep(50);
+        check("known user", validator);
+        assertThat(evaluations.get(), equalTo(2));
+    }
+
+    @Test
+    public void memoizedWeakly_dropsUnreferencedValues() throws InterruptedException {
+        MemoizingValidator<String> validator = memoizedWeakly(expensive, 100);
+        String user = new String("known user");
+        for(int i = 0; i < 10; i++) {
+            check(new String("known stranger " + i), validator);
+        }
+        check(user, validator);
+        check(new String("known user"), validator);
+        assertThat(evaluations.get(), equalTo(11));
+        for(int i = 0; i < 50 && validator.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(validator.size(), equalTo(1));
+        check(user, validator);
+        assertThat(evaluations.get(), equalTo(11));
+    }
+
+    @Test
+    public void memoizedWeakly_dropsFailingValues() throws InterruptedException {
+        // the failure of an unnamed with validator references its selection, here the actual value itself
+        MemoizingValidator<String> validator = memoizedWeakly(with((String name) -> name, expensive), 100);
+        String stranger = new String("stranger");
+        String message = null;
+        for(int i = 0; i < 2; i++) {
+            ValidationResult result = validator.evaluate(stranger);
+            assertThat(check(stranger, validator), equalTo(false));
+            assertThat(message == null || message.equals(result.createErrorMessage("name")), equalTo(true));
+            message = result.createErrorMessage("name");
+        }
+        assertThat(message, equalTo("name.stranger is not a known user"));
+        assertThat(validator.getStatistics().getMissCount(), equalTo(1L));
+        stranger = null;
+        for(int i = 0; i < 50 && validator.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(validator.size(), equalTo(0));
+    }
+
+    @Test
+    public void memoizationStatisticsAreVisibleInConfiguration() {
+        long hits = validcoolConfig.getMemoizationStatistics().getHitCount();
+        MemoizingValidator<String> validator = memoized(expensive, 10);
+        check("known user", validator);
+        check("known user", validator);
+        assertThat(validcoolConfig.getMemoizationStatistics().getHitCount() - hits >= 1, equalTo(true));
+    }
+
+}
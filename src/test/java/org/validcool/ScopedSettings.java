@@ -0,0 +1,115 @@
+package org.validcool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.Validations.*;
+
+public class ScopedSettings {
+
+    private final ValidcoolSettings returning = ValidcoolSettings.defaults().withFailureMode(FailureMode.RETURN);
+
+    @After
+    public void restoreDefaults() {
+        validcoolConfig.setSettings(ValidcoolSettings.defaults());
+    }
+
+    @Test
+    public void withMethodsReturnChangedCopies() {
+        ValidcoolSettings defaults = ValidcoolSettings.defaults();
+        ValidcoolSettings changed = defaults.withFailureMode(FailureMode.RETURN).withParallelThreshold(16);
+        assertThat(defaults.getFailureMode(), equalTo(FailureMode.THROW));
+        assertThat(defaults.getParallelThreshold(), equalTo(8192));
+        assertThat(changed.getFailureMode(), equalTo(FailureMode.RETURN));
+        assertThat(changed.getParallelThreshold(), equalTo(16));
+    }
+
+    @Test
+    public void runWith_appliesToCurrentThreadOnly() throws InterruptedException {
+        CountDownLatch scoped = new CountDownLatch(1);
+        CountDownLatch validated = new CountDownLatch(1);
+        AtomicReference<Throwable> otherThread = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                scoped.await();
+                validate(1, greaterThan(5));
+            } catch(Throwable e) {
+                otherThread.set(e);
+            } finally {
+                validated.countDown();
+            }
+        });
+        thread.start();
+        ValidationResult result = validcoolConfig.runWith(returning, () -> {
+            scoped.countDown();
+            try {
+                validated.await();
+            } catch(InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return validcoolConfig.current().validate(1, greaterThan(5));
+        });
+        thread.join();
+        assertThat(result.getErrorMessage(), equalTo("1 is not greater than 5"));
+        assertThat(otherThread.get() instanceof ValidationException, equalTo(true));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void runWith_restoresOuterSettings() {
+        validcoolConfig.runWith(returning, () -> {
+            validcoolConfig.runWith(ValidcoolSettings.defaults().withFailFast(true),
+                    () -> assertThat(validcoolConfig.isFailFast(), equalTo(true)));
+            assertThat(validcoolConfig.getFailureMode(), equalTo(FailureMode.RETURN));
+            assertThat(validcoolConfig.isFailFast(), equalTo(false));
+        });
+        validate(1, greaterThan(5));
+    }
+
+    @Test
+    public void settingsValidateSingleCalls() {
+        List<String> tenantErrors = new ArrayList<>();
+        ValidcoolSettings tenant = ValidcoolSettings.defaults().withErrorHandler(tenantErrors::add);
+        tenant.validate("age", 12, greaterThan(17));
+        assertThat(tenant.check(12, greaterThan(17)), equalTo(false));
+        assertThat(tenantErrors.size(), equalTo(1));
+        assertThat(tenantErrors.get(0), equalTo("age is not greater than 17"));
+    }
+
+    @Test
+    public void asynchValidationsCaptureSettings() throws ExecutionException, InterruptedException {
+        List<String> tenantErrors = new ArrayList<>();
+        ValidcoolSettings tenant = ValidcoolSettings.defaults().withErrorHandler(tenantErrors::add);
+        CompletableFuture<Boolean> valid = validcoolConfig.runWith(tenant,
+                () -> validateAsynch("age", 12, greaterThan(17)).run());
+        assertThat(valid.get(), equalTo(false));
+        assertThat(tenantErrors.get(0), equalTo("age is not greater than 17"));
+    }
+
+    @Test
+    public void concurrentUpdatesAreAtomic() throws InterruptedException {
+        validcoolConfig.setParallelThreshold(1);
+        Thread[] threads = new Thread[4];
+        for(int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for(int i = 0; i < 1000; i++) {
+                    validcoolConfig.update(settings -> settings.withParallelThreshold(settings.getParallelThreshold() + 1));
+                }
+            });
+            threads[t].start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(validcoolConfig.getParallelThreshold(), equalTo(4001));
+    }
+
+}
@@ -0,0 +1,59 @@
+package org.validcool;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.StreamValidations.*;
+import static org.validcool.StringValidations.isNullOrEmptyString;
+import static org.validcool.Validations.*;
+
+public class StreamValidating extends ValidationErrorLogging {
+
+    @Test
+    public void validating_stream_routesInvalidToSink() {
+        List<String> errors = new ArrayList<>();
+        List<String> valid = validating(Stream.of("a", "", "b", null), not(isNullOrEmptyString()),
+                (actual, result) -> errors.add(result.getErrorMessage()))
+                .collect(Collectors.toList());
+        assertThat(valid, equalTo(asList("a", "b")));
+        assertThat(errors, equalTo(asList(" is null or empty string", "null is null or empty string")));
+    }
+
+    @Test
+    public void validating_parallelStream_win() {
+        Queue<Integer> invalid = new ConcurrentLinkedQueue<>();
+        long count = IntStream.range(0, 100_000).boxed().parallel()
+                .filter(validElements(is("even", (Integer val) -> val % 2 == 0), (actual, result) -> invalid.add(actual)))
+                .count();
+        assertThat(count, equalTo(50_000L));
+        assertThat(invalid.size(), equalTo(50_000));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void validating_stream_handlesAsConfigured() {
+        validating(Stream.of(1, 2, 3), lowerThan(3)).forEach(actual -> {});
+    }
+
+    @Test
+    public void validating_iterator_win() {
+        List<Integer> invalid = new ArrayList<>();
+        Iterator<Integer> iterator = validating(asList(1, 5, 2, 7).iterator(), lowerThan(3),
+                (actual, result) -> invalid.add(actual));
+        List<Integer> valid = new ArrayList<>();
+        iterator.forEachRemaining(valid::add);
+        assertThat(valid, equalTo(asList(1, 2)));
+        assertThat(invalid, equalTo(asList(5, 7)));
+    }
+
+}
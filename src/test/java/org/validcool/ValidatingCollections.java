@@ -1,8 +1,17 @@
 package org.validcool;
 
 import org.junit.Test;
+import org.validcool.validators.ItemsValidator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.validcool.Validations.*;
 import static org.validcool.CollectionValidations.*;
 
@@ -50,6 +59,20 @@ public class ValidatingCollections extends ValidationErrorLogging {
         validate(asList(bilbo), hasItemsInOrder(asList(bilbo)));
     }
 
+    @Test
+    public void hasItemsInOrder_overlapping_win() {
+        validate(asList("a", "a", "b", "a", "a", "b", "a", "c"), hasItemsInOrder(asList("a", "a", "b", "a", "c")));
+        validate(new LinkedList<>(asList(bilbo, bilbo, smaugs, bilbo, bilbo, smaugs, smeagol)),
+                hasItemsInOrder(asList(bilbo, bilbo, smaugs, smeagol)));
+        validate(asList(null, smaugs, null, null, bilbo), hasItemsInOrder(asList(null, null, bilbo)));
+        validate(asList(gandalf), hasItemsInOrder(asList()));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void hasItemsInOrder_interrupted_fail() {
+        validate(new LinkedList<>(asList(bilbo, smaugs, gandalf, smeagol)), hasItemsInOrder(asList(smaugs, smeagol)));
+    }
+
     @Test(expected = ValidationException.class)
     public void hasItemsInOrder_reversed_fail() {
         validate(asList(gandalf, bilbo), hasItemsInOrder(asList(bilbo, gandalf)));
@@ -92,6 +115,29 @@ public class ValidatingCollections extends ValidationErrorLogging {
         validate(asList(gandalf, bilbo), sameItems(asList(gandalf, bilbo, smaugs)));
     }
 
+    @Test(expected = ValidationException.class)
+    public void hasSameItems_differentDuplicates_fail() {
+        validate(asList(gandalf, gandalf, bilbo), sameItems(asList(gandalf, bilbo, bilbo)));
+    }
+
+    @Test
+    public void hasSameItems_parallel_win() {
+        List<Integer> actual = new ArrayList<>();
+        IntStream.range(0, 50_000).forEach(i -> actual.add(i % 1000));
+        List<Integer> expected = new ArrayList<>(actual);
+        Collections.reverse(expected);
+        validate(actual, sameItems(expected));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void hasSameItems_parallel_fail() {
+        List<Integer> actual = new ArrayList<>();
+        IntStream.range(0, 50_000).forEach(i -> actual.add(i % 1000));
+        List<Integer> expected = new ArrayList<>(actual);
+        expected.set(0, 1);
+        validate(actual, sameItems(expected));
+    }
+
     @Test
     public void hasSameItemsInOrder_win() {
         validate(asList(gandalf, bilbo, smaugs, smeagol), sameItemsInOrder(asList(gandalf, bilbo, smaugs, smeagol)));
@@ -108,6 +154,27 @@ public class ValidatingCollections extends ValidationErrorLogging {
         validate(asList(gandalf, bilbo), sameItemsInOrder(asList(bilbo, gandalf, smaugs)));
     }
 
+    @Test
+    public void hasItems_duplicates_win() {
+        validate(asList(gandalf, gandalf, bilbo), hasItems(asList(bilbo, gandalf, bilbo)));
+        validate(new HashSet<>(asList(gandalf, bilbo, smaugs)), hasItems(asList(bilbo, gandalf)));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void hasItems_duplicates_fail() {
+        validate(asList(gandalf, gandalf, gandalf), hasItems(asList(bilbo, gandalf)));
+    }
+
+    @Test
+    public void hasNot_bigBlocklist_win() {
+        List<Integer> blocklist = new ArrayList<>();
+        IntStream.range(0, 200_000).forEach(i -> blocklist.add(i * 2));
+        Validator<List<Integer>> notBlocked = hasNot(blocklist);
+        validate(asList(1, 3, 399_999), notBlocked);
+        assertThat("blocked item should fail", !check(asList(1, 3, 399_998), notBlocked));
+        validate(new HashSet<>(asList(-2, 5)), hasAny(asList(-2)));
+    }
+
     @Test
     public void hasSize_win() {
         validate(asList(gandalf, bilbo), hasSize(2));
@@ -129,5 +196,52 @@ public class ValidatingCollections extends ValidationErrorLogging {
         validate(asList(gandalf, bilbo), isEmptyCollection());
     }
 
+    @Test
+    public void itemValidators_win() {
+        validate(asList(1, 2, 3), everyItem(greaterThan(0)));
+        validate(asList(-1, 2, -3), anyItem(greaterThan(0)));
+        validate(asList(-1, -2), noItem(greaterThan(0)));
+        validate(asList(1, -2, 3), atLeast(2, greaterThan(0)));
+        validate(asList(1, -2, 3), atMost(2, greaterThan(0)));
+        validate(new ArrayList<Integer>(), everyItem(greaterThan(0)));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void everyItem_fail() {
+        validate(asList(1, -2, 3), everyItem(greaterThan(0)));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void anyItem_empty_fail() {
+        validate(new ArrayList<Integer>(), anyItem(greaterThan(0)));
+    }
+
+    @Test
+    public void itemValidators_errorMessages() {
+        ValidationResult result = everyItem(greaterThan(0)).evaluate(asList(1, -2, 3, 0));
+        assertThat(result.createErrorMessage("lines"), org.hamcrest.CoreMatchers.equalTo(
+                "lines does not have every item valid, invalid at [1, 3]: lines[1] is not greater than 0"));
+        result = atMost(1, greaterThan(0)).evaluate(new LinkedList<>(asList(1, -2, 3, 4)));
+        assertThat(result.createErrorMessage("lines"), org.hamcrest.CoreMatchers.equalTo(
+                "lines has more than 1 valid items, valid at [0, 2, 3]"));
+    }
+
+    @Test
+    public void itemValidators_inParallel_reportFirstIndices() {
+        List<Integer> items = new ArrayList<>();
+        IntStream.range(0, 200_000).forEach(i -> items.add(i % 1000 == 999 ? -i : i));
+        assertThat("every item should fail", !check(items, everyItem(greaterThanOrZero())));
+        ValidationResult result = everyItem(greaterThanOrZero()).evaluate(items);
+        assertThat(((ItemsValidator.ItemsFailure<?>) result).getIndices(),
+                org.hamcrest.CoreMatchers.equalTo(new int[] { 999, 1999, 2999, 3999, 4999, 5999, 6999, 7999, 8999, 9999 }));
+        validate(items, atLeast(199_000, greaterThanOrZero()));
+        validate(new HashSet<>(items), anyItem(lowerThan(-150_000)));
+        assertThat("more than 100 negative items", !check(items, atMost(100, lowerThan(0))));
+        assertThat("exactly 200 negative items", check(items, all(atLeast(200, lowerThan(0)), atMost(200, lowerThan(0)))));
+    }
+
+    private Validator<Integer> greaterThanOrZero() {
+        return greaterThan(-1);
+    }
 
 }
@@ -0,0 +1,135 @@
+package org.validcool;
+
+import org.junit.Test;
+import org.validcool.annotations.GraphValidationResult;
+import org.validcool.annotations.GreaterThan;
+import org.validcool.annotations.NotEmpty;
+import org.validcool.annotations.Valid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.Validations.*;
+
+public class ValidatingGraphs extends ValidationErrorLogging {
+
+    static class Order {
+
+        @NotEmpty
+        String id;
+        @Valid @NotEmpty
+        List<Line> lines = new ArrayList<>();
+        @Valid
+        Customer customer;
+        @Valid
+        Map<String, Line> discounts = new LinkedHashMap<>();
+
+        Order(String id, Customer customer) {
+            this.id = id;
+            this.customer = customer;
+            customer.orders.add(this);
+        }
+
+        Order line(int quantity) {
+            lines.add(new Line(this, quantity));
+            return this;
+        }
+    }
+
+    static class Line {
+
+        @Valid
+        final Order order;
+        @GreaterThan(0)
+        final int quantity;
+
+        Line(Order order, int quantity) {
+            this.order = order;
+            this.quantity = quantity;
+        }
+    }
+
+    static class Customer {
+
+        @NotEmpty
+        final String name;
+        @Valid
+        final List<Order> orders = new ArrayList<>();
+
+        Customer(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void graph_win() {
+        Order order = new Order("A-1", new Customer("Ada")).line(1).line(2);
+        GraphValidationResult result = validateGraph("order", order);
+        assertThat("graph should be valid", result.isValid());
+        assertThat(result.getCheckedCount(), equalTo(4));
+    }
+
+    @Test
+    public void graph_reportsEveryFailureWithPath() {
+        Order order = new Order("", new Customer("")).line(1).line(0).line(3).line(-1);
+        order.discounts.put("summer", new Line(order, 0));
+        GraphValidationResult result = validateGraph("order", order);
+        assertThat(result.getFailureCount(), equalTo(5));
+        assertThat(result.getPath(0), equalTo("order.id"));
+        assertThat(result.getPath(1), equalTo("order.lines[1].quantity"));
+        assertThat(result.getPath(2), equalTo("order.lines[3].quantity"));
+        assertThat(result.getPath(3), equalTo("order.customer.name"));
+        assertThat(result.getPath(4), equalTo("order.discounts[summer].quantity"));
+        assertThat(result.getErrorMessage(1), equalTo("order.lines[1].quantity is not greater than 0"));
+        assertThat(result.getErrorMessages().get(3), equalTo("order.customer.name is null or empty string"));
+    }
+
+    @Test
+    public void graph_followsSharedObjectsButNotCycles() {
+        Customer customer = new Customer("Ada");
+        new Order("A-1", customer).line(0);
+        Order second = new Order("A-2", customer).line(1);
+        GraphValidationResult result = validateGraph("order", second);
+        assertThat(result.getFailureCount(), equalTo(1));
+        assertThat(result.getPath(0), equalTo("order.customer.orders[0].lines[0].quantity"));
+    }
+
+    @Test
+    public void graph_emptyCollection_fail() {
+        Order order = new Order("A-1", new Customer("Ada"));
+        GraphValidationResult result = validateGraph("order", order);
+        assertThat(result.getErrorMessages(), equalTo(Collections.singletonList("order.lines has a size of 0")));
+    }
+
+    @Test
+    public void graphInParallel_keepsTraversalOrder() {
+        Order order = new Order("A-1", new Customer("Ada"));
+        for(int i = 0; i < 20_000; i++) {
+            order.line(i % 1000 == 7 ? 0 : 1);
+        }
+        GraphValidationResult result = validcoolConfig.runWith(
+                validcoolConfig.getSettings().withParallelThreshold(64), () -> validateGraph("order", order));
+        assertThat(result.getCheckedCount(), equalTo(20_002));
+        assertThat(result.getFailureCount(), equalTo(20));
+        for(int failure = 0; failure < 20; failure++) {
+            assertThat(result.getPath(failure), equalTo("order.lines[" + (failure * 1000 + 7) + "].quantity"));
+        }
+    }
+
+    @Test
+    public void graphOfArraysAndNestedLists_win() {
+        Order order = new Order("A-1", new Customer("Ada")).line(1);
+        GraphValidationResult result = validateGraph("orders", Arrays.asList(new Order[] { order }));
+        assertThat("graph should be valid", result.isValid());
+        order.line(0);
+        result = validateGraph("orders", new Object[] { Arrays.asList(order) });
+        assertThat(result.getPath(0), equalTo("orders[0][0].lines[1].quantity"));
+    }
+
+}
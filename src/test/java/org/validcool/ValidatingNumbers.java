@@ -0,0 +1,132 @@
+package org.validcool;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.NumberValidations.*;
+import static org.validcool.Validations.*;
+
+public class ValidatingNumbers extends ValidationErrorLogging {
+
+    @Test
+    public void between_win() {
+        validate(5, betweenInt(1, 5));
+        validate(-3_000_000_000L, betweenLong(Long.MIN_VALUE, 0L));
+        validate(0.5, betweenDouble(0.0, 1.0));
+        validate("b", between("a", "c"));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void between_fail() {
+        validate(6, betweenInt(1, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void between_unorderedBounds() {
+        betweenInt(5, 1);
+    }
+
+    @Test
+    public void multipleOf_win() {
+        validate(-12, multipleOf(4));
+        validate(9_000_000_000L, multipleOf(3_000_000_000L));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void multipleOf_fail() {
+        validate(13, multipleOf(4));
+    }
+
+    @Test
+    public void composites() {
+        IntValidator validator = betweenInt(1, 100).and(multipleOf(2)).or(inInt(-1));
+        assertThat(check(42, validator), equalTo(true));
+        assertThat(check(-1, validator), equalTo(true));
+        assertThat(check(43, validator), equalTo(false));
+        assertThat(check(7, greaterThanInt(5).negate()), equalTo(false));
+        assertThat(check(7L, lowerThanLong(5L).negate()), equalTo(true));
+        assertThat(check(Double.NaN, greaterThanDouble(1.0).and(lowerThanDouble(2.0))), equalTo(false));
+    }
+
+    @Test
+    public void inComposites() {
+        IntValidator validator = betweenInt(1, 100).and(multipleOf(2)).or(inInt(-1, -3, 1_000_000));
+        validate(42, validator);
+        validate(-3, validator);
+        validate("size", 1_000_000, validator);
+        validate(7_000_000_000L, inLong(-1L, 7_000_000_000L).and(multipleOf(7L)));
+        testErrorMessage(() -> validate(-2, validator),
+                "-2 is not between 1 and 100;-2 is not in [-1, -3, 1000000];");
+        testErrorMessage(() -> validate(-2, inInt(-1, -3).negate().and(inInt(-2).negate())), "-2 is in [-2]");
+    }
+
+    @Test
+    public void primitiveErrorMessages() {
+        testErrorMessage(() -> validate(43, betweenInt(1, 100).and(multipleOf(2))), "43 is not a multiple of 2");
+        testErrorMessage(() -> validate("size", 0L, betweenLong(1L, 9L)), "size is not between 1 and 9");
+        testErrorMessage(() -> validate(7, greaterThanInt(5).negate()), "7 is greater than 5");
+        testErrorMessage(() -> validate(3.5, lowerThanDouble(1.0).or(greaterThanDouble(4.0))),
+                "3.5 is not lower than 1.0;3.5 is not greater than 4.0;");
+    }
+
+    @Test
+    public void negatedComposites() {
+        IntValidator validator = betweenInt(1, 100).and(multipleOf(2));
+        assertThat(validator.createErrorMessage("size"),
+                equalTo("size is not between 1 and 100;size is not a multiple of 2;"));
+        assertThat(check(42, validator.negate()), equalTo(false));
+        assertThat(check(43, not(validator)), equalTo(true));
+        testErrorMessage(() -> validate(42, validator.negate()), "42 is between 1 and 100;42 is a multiple of 2;");
+        testErrorMessage(() -> validate(2L, not(greaterThanLong(1L).or(lowerThanLong(0L)))),
+                "2 is greater than 1;2 is lower than 0;");
+    }
+
+    @Test
+    public void boxedValuesUseThePrimitivePath() {
+        Validator<Integer> validator = betweenInt(1, 5).and(multipleOf(2));
+        assertThat(validator.test(4), equalTo(true));
+        testErrorMessage(() -> validate(Integer.valueOf(3), validator), "3 is not a multiple of 2");
+    }
+
+    @Test
+    public void genericComparisonsKeepTheirBoxedType() {
+        Validator<Short> shortValidator = greaterThan((short) 3);
+        Validator<Float> floatValidator = lowerThan(1.5f);
+        Validator<Character> charValidator = between('a', 'z');
+        assertThat(check((short) 4, shortValidator), equalTo(true));
+        assertThat(check(2.5f, floatValidator), equalTo(false));
+        assertThat(check('q', charValidator), equalTo(true));
+        assertThat(check(4.5f, with(Float::floatValue, greaterThan(1.5f))), equalTo(true));
+    }
+
+    @Test
+    public void primitiveValidationAllocatesNothing() {
+        IntValidator validator = betweenInt(0, 1_000_000).and(multipleOf(1));
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // warm up, so the measured calls run compiled code
+        for(int i = 0; i < 200_000; i++) {
+            validate(i % 1_000_000, validator);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < 100_000; i++) {
+            validate(1000 + i, validator);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertThat(allocated / 100_000, equalTo(0L));
+    }
+
+    private void testErrorMessage(Runnable validationAction, String expectedErrorMessage) {
+        try {
+            validationAction.run();
+        } catch(ValidationException e) {
+            assertThat(e.getMessage(), equalTo(expectedErrorMessage));
+            return;
+        }
+        throw new AssertionError("validation should fail");
+    }
+
+}
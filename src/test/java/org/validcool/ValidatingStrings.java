@@ -2,6 +2,10 @@ package org.validcool;
 
 import org.junit.Test;
 
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.validcool.Validations.*;
 import static org.validcool.StringValidations.*;
 
@@ -35,6 +39,23 @@ public class ValidatingStrings extends ValidationErrorLogging {
         validate("hello 123", containsPattern("[0-9]{4,}"));
     }
 
+    @Test
+    public void matchesWithFlags_win() {
+        validate("HELLO", matches("[a-z]+", Pattern.CASE_INSENSITIVE));
+        validate("say HELLO", containsPattern("hello", Pattern.CASE_INSENSITIVE));
+    }
+
+    @Test
+    public void matches_reusesCompiledPattern() {
+        CacheStatistics statistics = validcoolConfig.getPatternCacheStatistics();
+        matches("[0-9]+-cached");
+        long hits = statistics.getHitCount();
+        Validator<String> validator = matches("[0-9]+-cached");
+        validate("123-cached", validator);
+        validate("456-cached", validator);
+        assertThat(statistics.getHitCount(), equalTo(hits + 1));
+    }
+
     @Test(expected = ValidationException.class)
     public void failOnSubstring() {
         // Arrange
@@ -0,0 +1,142 @@
+package org.validcool.asynch;
+
+import org.junit.Test;
+import org.validcool.ValidcoolSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.Validations.*;
+
+public class AsynchronousErrorLogging {
+
+    private final List<String> logged = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Test
+    public void logsAllMessagesInOrderPerThread() throws InterruptedException {
+        try(AsynchErrorLogger logger = AsynchErrorLogger.of(logged::add, 64, OverflowPolicy.BLOCK)) {
+            Thread[] threads = new Thread[4];
+            for(int t = 0; t < threads.length; t++) {
+                int thread = t;
+                threads[t] = new Thread(() -> {
+                    for(int i = 0; i < 1000; i++) {
+                        logger.accept(thread + ":" + i);
+                    }
+                });
+                threads[t].start();
+            }
+            for(Thread thread : threads) {
+                thread.join();
+            }
+            logger.flush();
+            assertThat(logger.getLoggedCount(), equalTo(4000L));
+            assertThat(logger.getDroppedCount(), equalTo(0L));
+        }
+        int[] next = new int[4];
+        for(String message : logged) {
+            String[] parts = message.split(":");
+            int thread = Integer.parseInt(parts[0]);
+            assertThat(Integer.parseInt(parts[1]), equalTo(next[thread]++));
+        }
+    }
+
+    @Test
+    public void drop_countsMessagesNotFittingIntoBuffer() throws InterruptedException {
+        try(AsynchErrorLogger logger = AsynchErrorLogger.of(this::logWhenReleased, 16, OverflowPolicy.DROP)) {
+            blockDrainThread(logger);
+            for(int i = 0; i < 100; i++) {
+                logger.accept("message " + i);
+            }
+            released.countDown();
+            logger.flush();
+            assertThat(logger.getLoggedCount(), equalTo(17L));
+            assertThat(logger.getDroppedCount(), equalTo(84L));
+        }
+    }
+
+    @Test
+    public void sample_keepsSomeMessagesOnceHalfFull() throws InterruptedException {
+        try(AsynchErrorLogger logger = AsynchErrorLogger.of(this::logWhenReleased, 64, OverflowPolicy.SAMPLE)) {
+            blockDrainThread(logger);
+            for(int i = 0; i < 1000; i++) {
+                logger.accept("message " + i);
+            }
+            released.countDown();
+            logger.flush();
+            // the first half fills up unsampled, later messages only get in one of SAMPLE_RATE until the buffer is full
+            assertThat(logged.contains("message 31"), equalTo(true));
+            assertThat(logged.contains("message 32"), equalTo(true));
+            assertThat(logged.contains("message 33"), equalTo(false));
+            assertThat(logged.contains("message 48"), equalTo(true));
+            assertThat(logger.getLoggedCount(), equalTo(65L));
+            assertThat(logger.getDroppedCount(), equalTo(936L));
+        }
+    }
+
+    @Test
+    public void block_losesNoMessage() throws InterruptedException {
+        try(AsynchErrorLogger logger = AsynchErrorLogger.of(this::logWhenReleased, 4, OverflowPolicy.BLOCK)) {
+            Thread producer = new Thread(() -> {
+                for(int i = 0; i < 100; i++) {
+                    logger.accept("message " + i);
+                }
+            });
+            blockDrainThread(logger);
+            producer.start();
+            Thread.sleep(20);
+            assertThat(logger.getBufferedCount() <= 4, equalTo(true));
+            released.countDown();
+            producer.join();
+            logger.flush();
+            assertThat(logger.getLoggedCount(), equalTo(101L));
+            assertThat(logger.getDroppedCount(), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void logsValidationFailures() {
+        try(AsynchErrorLogger logger = AsynchErrorLogger.ofBatches(logged::addAll, 1024, OverflowPolicy.DROP)) {
+            ValidcoolSettings settings = ValidcoolSettings.defaults().withErrorLogger(logger).withLogging(true);
+            for(int i = 0; i < 3; i++) {
+                settings.check(i, greaterThan(5));
+            }
+            logger.flush();
+        }
+        assertThat(logged, equalTo(java.util.Arrays.asList(
+                "0 is not greater than 5", "1 is not greater than 5", "2 is not greater than 5")));
+    }
+
+    @Test
+    public void close_keepsInterruptStatus() {
+        AsynchErrorLogger logger = AsynchErrorLogger.of(logged::add, 16, OverflowPolicy.DROP);
+        logger.accept("message");
+        Thread.currentThread().interrupt();
+        logger.close();
+        assertThat(Thread.interrupted(), equalTo(true));
+    }
+
+    /**
+     * Makes the drain thread wait in the logger, so the buffer fills up.
+     */
+    private void blockDrainThread(AsynchErrorLogger logger) throws InterruptedException {
+        logger.accept("blocker");
+        entered.await();
+    }
+
+    private void logWhenReleased(String message) {
+        entered.countDown();
+        try {
+            released.await();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logged.add(message);
+    }
+
+}
@@ -6,10 +6,23 @@ import org.validcool.ValidationException;
 
 import java.time.LocalDate;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.validcool.Validations.is;
 import static org.validcool.Validations.not;
 import static org.validcool.Validations.nullValue;
 import static org.validcool.Validations.validateAsynch;
+import static org.validcool.Validations.validateFailFast;
+import static org.validcool.Validations.validcoolConfig;
 
 public class AsynchronousValidation extends ValidationErrorLogging {
 
@@ -19,6 +32,141 @@ public class AsynchronousValidation extends ValidationErrorLogging {
         new EntityWithAsynchValidation(null, 15, LocalDate.now().minusYears(20), "hello world");
     }
 
+    @Test
+    public void ioValidationsRunOnConfiguredExecutor() {
+        AtomicInteger tasks = new AtomicInteger();
+        validcoolConfig.setExecutor(ValidationHint.IoOperation, task -> {
+            tasks.incrementAndGet();
+            new Thread(task).start();
+        });
+        try {
+            new EntityWithAsynchValidation("hello", 15, LocalDate.now().minusYears(20), "hello world");
+        } finally {
+            validcoolConfig.setExecutor(ValidationHint.IoOperation, null);
+        }
+        assertThat(tasks.get(), equalTo(1));
+    }
+
+    @Test
+    public void ioValidationsDoNotRunOnCommonPool() {
+        assertThat(validcoolConfig.getExecutor(ValidationHint.IoOperation) != ForkJoinPool.commonPool(),
+                equalTo(true));
+    }
+
+    @Test
+    public void failFast_cancelsRemainingValidations() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AsynchValidation slow = validateAsynch("slow", "value", is("some long io validation", val -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return true;
+        }), ValidationHint.IoOperation);
+        // fails once the slow validation is running, so there is a thread to interrupt
+        AsynchValidation fast = validateAsynch("fast", "value", is("not started", val -> {
+            try {
+                return !started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }));
+        long start = System.nanoTime();
+        try {
+            validateFailFast(slow, fast);
+            assertThat("should have thrown ValidationException", false);
+        } catch(ValidationException e) {
+            assertThat(e.getMessage(), equalTo("fast is started"));
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000, equalTo(true));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), equalTo(true));
+    }
+
+    @Test
+    public void failFast_doesNotInterruptForeignExecutors() throws InterruptedException {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicInteger skippedRuns = new AtomicInteger();
+        validcoolConfig.setExecutor(ValidationHint.SimpleComputing, pool);
+        AsynchValidation blocking = validateAsynch("blocking", "value", is("released", val -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return true;
+        }));
+        AsynchValidation skipped = validateAsynch("skipped", "value",
+                is("run", val -> skippedRuns.incrementAndGet() > 0));
+        AsynchValidation failing = validateAsynch("failing", "value", is("failing after start", val -> {
+            try {
+                return !started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }), ValidationHint.IoOperation);
+        try {
+            validateFailFast(blocking, skipped, failing);
+            assertThat("should have thrown ValidationException", false);
+        } catch(ValidationException e) {
+            assertThat(e.getMessage(), equalTo("failing is not failing after start"));
+        } finally {
+            validcoolConfig.setExecutor(ValidationHint.SimpleComputing, null);
+        }
+        release.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS), equalTo(true));
+        assertThat(interrupted.get(), equalTo(false));
+        assertThat(skippedRuns.get(), equalTo(0));
+    }
+
+    @Test
+    public void failFast_runsOnExecutorsOfCapturedSettings() throws InterruptedException {
+        ExecutorService io = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean ranOnForeignExecutor = new AtomicBoolean();
+        Thread[] ioThread = new Thread[1];
+        io.execute(() -> ioThread[0] = Thread.currentThread());
+        AsynchValidation blocking = validcoolConfig.runWith(
+                validcoolConfig.getSettings().withExecutor(ValidationHint.IoOperation, io),
+                () -> validateAsynch("blocking", "value", is("released", val -> {
+                    ranOnForeignExecutor.set(Thread.currentThread() == ioThread[0]);
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return true;
+                }), ValidationHint.IoOperation));
+        AsynchValidation failing = validateAsynch("failing", "value", is("failing after start", val -> {
+            try {
+                return !started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }));
+        try {
+            validateFailFast(blocking, failing);
+            assertThat("should have thrown ValidationException", false);
+        } catch(ValidationException e) {
+            assertThat(e.getMessage(), equalTo("failing is not failing after start"));
+        }
+        release.countDown();
+        io.shutdown();
+        assertThat(io.awaitTermination(5, TimeUnit.SECONDS), equalTo(true));
+        assertThat(ranOnForeignExecutor.get(), equalTo(true));
+        assertThat(interrupted.get(), equalTo(false));
+    }
+
     @Test(expected = ValidationException.class)
     public void validateSingleValidationAsynchronously() throws InterruptedException {
         try {
@@ -0,0 +1,115 @@
+package org.validcool.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.validcool.NumberValidations;
+import org.validcool.ValidationException;
+import org.validcool.Validator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.validcool.StringValidations.hasLength;
+import static org.validcool.Validations.*;
+
+public class CollectingMetrics {
+
+    private final StripedValidationMetrics metrics = new StripedValidationMetrics();
+
+    @Before
+    public void enableMetrics() {
+        validcoolConfig.setMetrics(metrics);
+    }
+
+    @After
+    public void disableMetrics() {
+        validcoolConfig.setMetrics(null);
+    }
+
+    @Test
+    public void countsCallsAndFailuresByUnrenderedErrorMessagePattern() {
+        for(int i = 0; i < 10; i++) {
+            check(i, greaterThan(6));
+        }
+        check(7L, greaterThan(6L));
+        ValidatorStatistics statistics = metrics.getStatistics("${actual} is not greater than ${expected}");
+        assertThat(statistics.getCallCount(), equalTo(11L));
+        assertThat(statistics.getFailureCount(), equalTo(7L));
+        long histogramCount = 0;
+        for(long bucket : statistics.getLatencyHistogram()) {
+            histogramCount += bucket;
+        }
+        assertThat(histogramCount, equalTo(11L));
+        assertThat(statistics.getLatencyPercentile(100) >= statistics.getLatencyPercentile(50), equalTo(true));
+    }
+
+    @Test
+    public void countsNamedValidatorsByName() {
+        Validator<String> username = named("username", all(not(nullValue()), hasLength(5)));
+        check("alice", username);
+        check("bob", username);
+        try {
+            validate("mallory", username);
+        } catch(ValidationException e) {
+            assertThat(e.getMessage(), equalTo("mallory does not have length of 5"));
+        }
+        assertThat(metrics.getStatistics("username").getCallCount(), equalTo(3L));
+        assertThat(metrics.getStatistics("username").getFailureCount(), equalTo(2L));
+        assertThat(metrics.getStatistics().keySet().size(), equalTo(1));
+    }
+
+    @Test
+    public void neverRendersExpectedValuesForNames() {
+        AtomicInteger rendered = new AtomicInteger();
+        Validator<Integer> blocked = new Validator<>(val -> val > 0, "${actual} is in ${expected}", () -> {
+            rendered.incrementAndGet();
+            return "a long blocklist";
+        });
+        check(1, blocked);
+        check(1, all(not(nullValue()), blocked));
+        assertThat(rendered.get(), equalTo(0));
+        assertThat(metrics.getStatistics("${actual} is in ${expected}").getCallCount(), equalTo(1L));
+    }
+
+    @Test
+    public void namesCompositesAfterTheirValidators() {
+        check(1, all(not(nullValue()), greaterThan(0)));
+        check(1, any(nullValue(), with("length", Integer::bitCount, greaterThan(0))));
+        check(1, NumberValidations.greaterThanInt(0).and(NumberValidations.lowerThanInt(9)));
+        assertThat(metrics.getStatistics().keySet(), equalTo(new HashSet<>(Arrays.asList(
+                "all(not(${actual} is not null), ${actual} is not greater than ${expected})",
+                "any(${actual} is not null, with(length, ${actual} is not greater than ${expected}))",
+                "and(${actual} is not greater than ${expected}, ${actual} is not lower than ${expected})"))));
+    }
+
+    @Test
+    public void recordsAsynchronousValidations() {
+        validate(validateAsynch("age", 12, named("age", greaterThan(10))));
+        assertThat(metrics.getStatistics("age").getCallCount(), equalTo(1L));
+    }
+
+    @Test
+    public void recordsNothingWhenDisabled() {
+        validcoolConfig.setMetrics(null);
+        check(1, greaterThan(0));
+        assertThat(metrics.getStatistics("${actual} is not greater than ${expected}") == null, equalTo(true));
+    }
+
+    @Test
+    public void percentileIsBucketUpperBound() {
+        ValidatorStatistics statistics = new ValidatorStatistics("test");
+        statistics.record(true, 0);
+        statistics.record(true, 100);
+        statistics.record(false, 1000);
+        statistics.record(true, 1000);
+        assertThat(statistics.getLatencyPercentile(25), equalTo(0L));
+        assertThat(statistics.getLatencyPercentile(50), equalTo(127L));
+        assertThat(statistics.getLatencyPercentile(100), equalTo(1023L));
+        assertThat(statistics.getTotalNanos(), equalTo(2100L));
+    }
+
+}